@@ -0,0 +1,38 @@
+package org.springframework.data.tarantool.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.tarantool.core.ReactiveTarantoolTemplate;
+import org.springframework.data.tarantool.core.TarantoolTemplate;
+
+/**
+ * Base class for configuring reactive Spring Data using JavaConfig. Registers a {@link ReactiveTarantoolTemplate}
+ * in addition to the beans created by {@link AbstractTarantoolDataConfiguration}.
+ */
+@Configuration(proxyBeanMethods = false)
+public abstract class AbstractReactiveTarantoolDataConfiguration extends AbstractTarantoolDataConfiguration {
+
+    /**
+     * Create a {@link ReactiveTarantoolTemplate} instance.
+     * Override {@link #configureReactiveTarantoolTemplate(ReactiveTarantoolTemplate)} to tune the template settings.
+     *
+     * @param tarantoolTemplate a {@link TarantoolTemplate} instance
+     * @return a {@link ReactiveTarantoolTemplate} instance
+     * @see #tarantoolTemplate
+     */
+    @Bean("reactiveTarantoolTemplate")
+    public ReactiveTarantoolTemplate reactiveTarantoolTemplate(TarantoolTemplate tarantoolTemplate) {
+        ReactiveTarantoolTemplate reactiveTemplate = new ReactiveTarantoolTemplate(tarantoolTemplate);
+        configureReactiveTarantoolTemplate(reactiveTemplate);
+        return reactiveTemplate;
+    }
+
+    /**
+     * Configure the {@link ReactiveTarantoolTemplate}, e.g. set the fetch size.
+     *
+     * @param reactiveTarantoolTemplate never {@literal null}.
+     */
+    protected void configureReactiveTarantoolTemplate(ReactiveTarantoolTemplate reactiveTarantoolTemplate) {
+        // customization hook
+    }
+}
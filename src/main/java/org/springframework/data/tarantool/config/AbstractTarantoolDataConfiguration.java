@@ -12,7 +12,9 @@ import io.tarantool.driver.core.ClusterTarantoolTupleClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.tarantool.core.DefaultTarantoolExceptionTranslator;
+import org.springframework.data.tarantool.core.TarantoolAsyncOperations;
 import org.springframework.data.tarantool.core.TarantoolExceptionTranslator;
+import org.springframework.data.tarantool.core.TarantoolExecutionStrategy;
 import org.springframework.data.tarantool.core.TarantoolTemplate;
 import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
 import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
@@ -115,21 +117,35 @@ public abstract class AbstractTarantoolDataConfiguration extends TarantoolConfig
     }
 
     /**
-     * Create a {@link TarantoolTemplate} instance.
+     * Create a {@link TarantoolTemplate} instance. The buffered writes of the template are flushed on shutdown,
+     * before the client is closed.
      *
-     * @param tarantoolClient       a configured tarantool client instance
-     * @param mappingContext        mapping context, contains information about defined entities
-     * @param converter             type converter, converts data between entities and Tarantool tuples
-     * @param queryExecutorsFactory worker thread factory for query executor threads
+     * @param tarantoolClient            a configured tarantool client instance
+     * @param mappingContext             mapping context, contains information about defined entities
+     * @param converter                  type converter, converts data between entities and Tarantool tuples
+     * @param tarantoolExecutionStrategy executor for the client-side work of the template
      * @return a {@link TarantoolTemplate} instance.
      * @see #tarantoolClient(TarantoolClientConfig, TarantoolClusterAddressProvider)
+     * @see #tarantoolExecutionStrategy()
      */
-    @Bean("tarantoolTemplate")
+    @Bean(name = "tarantoolTemplate", destroyMethod = "flush")
     public TarantoolTemplate tarantoolTemplate(TarantoolClient tarantoolClient,
                                                TarantoolMappingContext mappingContext,
                                                MappingTarantoolConverter converter,
-                                               ForkJoinWorkerThreadFactory queryExecutorsFactory) {
-        return new TarantoolTemplate(tarantoolClient, mappingContext, converter, queryExecutorsFactory);
+                                               TarantoolExecutionStrategy tarantoolExecutionStrategy) {
+        return new TarantoolTemplate(tarantoolClient, mappingContext, converter, tarantoolExecutionStrategy);
+    }
+
+    /**
+     * Expose the non-blocking operations of the {@link TarantoolTemplate} instance.
+     *
+     * @param tarantoolTemplate a {@link TarantoolTemplate} instance
+     * @return a {@link TarantoolAsyncOperations} instance backed by the template
+     * @see TarantoolTemplate#async()
+     */
+    @Bean("tarantoolAsyncOperations")
+    public TarantoolAsyncOperations tarantoolAsyncOperations(TarantoolTemplate tarantoolTemplate) {
+        return tarantoolTemplate.async();
     }
 
     /**
@@ -231,11 +247,26 @@ public abstract class AbstractTarantoolDataConfiguration extends TarantoolConfig
         return new DefaultTarantoolExceptionTranslator();
     }
 
+    /**
+     * Create the executor for the client-side work of the {@link TarantoolTemplate}, like converting the results.
+     * Defaults to a pool of platform threads, one per available processor. Override this method for using
+     * {@link TarantoolExecutionStrategy#virtualThreads()} on JDK 21 or newer, or
+     * {@link TarantoolExecutionStrategy#callerRuns()} for doing the work in the client network threads.
+     *
+     * @return new execution strategy instance
+     */
+    @Bean(destroyMethod = "shutdown")
+    public TarantoolExecutionStrategy tarantoolExecutionStrategy() {
+        return TarantoolExecutionStrategy.platformThreads(Runtime.getRuntime().availableProcessors());
+    }
+
     /**
      * Creates the default query executors worker thread factory
      *
      * @return new factory instance
+     * @deprecated the template executes the client-side work with {@link #tarantoolExecutionStrategy()}
      */
+    @Deprecated
     @Bean
     public ForkJoinWorkerThreadFactory queryExecutorsFactory() {
         return new WorkerFactory();
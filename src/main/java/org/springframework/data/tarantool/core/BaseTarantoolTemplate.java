@@ -1,24 +1,57 @@
 package org.springframework.data.tarantool.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.msgpack.value.Value;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
 import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.data.tarantool.core.query.TarantoolPageRequest;
+import org.springframework.data.tarantool.exceptions.TarantoolBatchOperationException;
 import org.springframework.data.tarantool.exceptions.TarantoolMetadataMissingException;
+import org.springframework.data.tarantool.repository.TarantoolSerializationType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -29,11 +62,24 @@ import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.options.ProxySelectOptions;
+import io.tarantool.driver.api.tuple.TarantoolField;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleResult;
+import io.tarantool.driver.api.tuple.operations.TupleOperation;
 import io.tarantool.driver.api.tuple.operations.TupleOperations;
+import io.tarantool.driver.core.space.ProxyTarantoolSpace;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolAccessDeniedException;
+import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.exceptions.TarantoolFieldNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
@@ -53,30 +99,56 @@ import io.tarantool.driver.protocol.TarantoolIndexQuery;
 abstract class BaseTarantoolTemplate implements TarantoolOperations {
 
     protected static final int MAX_WORKERS = 4;
+    protected static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 128;
+    protected static final int DEFAULT_MAX_CLIENT_SORT_SIZE = 10_000;
+    protected static final int DEFAULT_INLINE_DECODE_THRESHOLD = 64;
+    protected static final int MAX_CACHED_RESULT_MAPPERS = 256;
+    protected static final String CRUD_COUNT_FUNCTION = "crud.count";
+    protected static final String CRUD_LEN_FUNCTION = "crud.len";
+    protected static final String SPACE_LEN_SCRIPT = "return box.space[...]:len()";
+    protected static final String INDEX_COUNT_SCRIPT =
+            "local space, index, key, iterator = ... "
+                    + "return box.space[space].index[index]:count(key, {iterator = iterator})";
 
     protected final TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient;
     protected final TarantoolMappingContext mappingContext;
     protected final TarantoolConverter converter;
     protected final TarantoolExceptionTranslator exceptionTranslator;
-    protected final ForkJoinPool queryExecutors;
+    protected final TarantoolExecutionStrategy executionStrategy;
     protected final MessagePackMapper mapper;
     protected final ResultMapperFactoryFactory mapperFactoryFactory;
+    private final SpaceMetadataCache spaceMetadataCache;
+    private final ResultMapperCache resultMapperCache = new ResultMapperCache(MAX_CACHED_RESULT_MAPPERS);
+    private final Map<Class<?>, PrimaryKeyEncoder> primaryKeyEncoders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EntityWritePolicies> writePolicies = new ConcurrentHashMap<>();
+    private final Map<List<Class<?>>, ProjectionReader<?>> projectionReaders = new ConcurrentHashMap<>();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    private final Set<String> bulkUpdateUnavailableSpaces = ConcurrentHashMap.newKeySet();
+
+    private volatile int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+    private volatile int fetchSize;
+    private volatile int maxClientSortSize = DEFAULT_MAX_CLIENT_SORT_SIZE;
+    private volatile int inlineDecodeThreshold = DEFAULT_INLINE_DECODE_THRESHOLD;
+    private volatile boolean requestCoalescing;
+    @Nullable
+    private volatile Duration defaultTimeout;
 
     BaseTarantoolTemplate(
             TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient,
             TarantoolMappingContext mappingContext,
             TarantoolConverter converter,
-            ForkJoinPool.ForkJoinWorkerThreadFactory queryExecutorsFactory) {
+            TarantoolExecutionStrategy executionStrategy) {
+        Assert.notNull(executionStrategy, "Execution strategy must not be null!");
         this.tarantoolClient = tarantoolClient;
         this.mappingContext = mappingContext;
         this.converter = converter;
-        this.queryExecutors = new ForkJoinPool(
-                Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()),
-                queryExecutorsFactory, null, false
-        );
+        this.executionStrategy = executionStrategy;
         this.exceptionTranslator = new DefaultTarantoolExceptionTranslator();
         this.mapper = tarantoolClient.getConfig().getMessagePackMapper();
         this.mapperFactoryFactory = new ResultMapperFactoryFactoryImpl();
+        this.fetchSize = tarantoolClient.getConfig().getCursorBatchSize();
+        this.spaceMetadataCache = new SpaceMetadataCache(tarantoolClient);
     }
 
     @Override
@@ -85,7 +157,7 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         Assert.notNull(entityClass, "Entity class must not be null!");
         TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entity.getSpaceName()).select(query)
+                space(entity.getSpaceName()).select(query)
         );
         return mapFirstToEntity(result, entityClass);
     }
@@ -97,9 +169,14 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
 
         TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entity.getSpaceName()).select(query)
+                space(entity.getSpaceName()).select(query)
         );
-        return result.stream().map(t -> mapToEntity(t, entityClass)).collect(Collectors.toList());
+        return mapToEntities(result, entityClass);
+    }
+
+    @Override
+    public <T, R> List<R> find(Conditions query, Class<T> entityClass, Class<R> resultType) {
+        return getFutureValue(() -> selectProjections(query, entityClass, resultType));
     }
 
     @Override
@@ -108,35 +185,88 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         Assert.notNull(entityClass, "Entity class must not be null!");
 
         TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
-        TarantoolResult<TarantoolTuple> result = executeSync(() -> {
+        if (isAbsent(id, entityClass)) {
+            return null;
+        }
+        NearCache cache = getWritePolicies(entityClass).getNearCache();
+        if (cache != null && cache.accepts(id)) {
+            return getFutureValue(() -> selectByIdCached(id, entityClass, cache));
+        }
+        TarantoolResult<TarantoolTuple> result = getFutureValue(() -> {
             Conditions query = idQueryFromObject(id, entityClass).withLimit(1);
-            return tarantoolClient.space(entity.getSpaceName()).select(query);
+            return selectCoalesced(entity.getSpaceName(), query);
         });
         return mapFirstToEntity(result, entityClass);
     }
 
+    @Override
+    public <T, ID> Map<ID, T> findAllById(Collection<ID> ids, Class<T> entityClass) {
+        return getFutureValue(() -> selectAllById(ids, entityClass));
+    }
+
     @Override
     public <T> List<T> findAll(Class<T> entityClass) {
         Assert.notNull(entityClass, "Entity class must not be null!");
 
         TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entity.getSpaceName()).select(Conditions.any())
+                space(entity.getSpaceName()).select(Conditions.any())
         );
-        return result.stream().map(t -> mapToEntity(t, entityClass)).collect(Collectors.toList());
+        return mapToEntities(result, entityClass);
+    }
+
+    @Override
+    public <T> List<T> findAll(Sort sort, Class<T> entityClass) {
+        return getFutureValue(() -> selectSorted(sort, entityClass));
+    }
+
+    @Override
+    public <T> Slice<T> findAll(Pageable pageable, Class<T> entityClass) {
+        return getFutureValue(() -> selectSlice(Conditions.any(), pageable, entityClass));
+    }
+
+    @Override
+    public <T> Slice<T> find(Conditions query, Pageable pageable, Class<T> entityClass) {
+        return getFutureValue(() -> selectSlice(query, pageable, entityClass));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        PrefetchingTupleIterator tuples = new PrefetchingTupleIterator(
+                this, space(entity.getSpaceName()), query, fetchSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(tuples,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(tuples::close)
+                .map(tuple -> mapToEntity(tuple, entityClass));
+    }
+
+    @Override
+    public <T> Stream<T> streamAll(Class<T> entityClass) {
+        return stream(Conditions.any(), entityClass);
     }
 
     @Override
     public <T> List<T> findAndRemove(Conditions query, Class<T> entityType) {
-        List<T> entities = find(query, entityType);
-        return entities.stream().map(e -> remove(e, entityType)).collect(Collectors.toList());
+        return getFutureValue(() -> selectAndRemove(query, entityType));
     }
 
     @Override
     public <T> Long count(Conditions query, Class<T> entityType) {
-        // not supported in the driver yet. TODO change this when implemented in the driver
+        return getFutureValue(() -> countAsync(query, entityType));
+    }
+
+    @Override
+    public <T, ID> boolean existsById(ID id, Class<T> entityType) {
+        return getFutureValue(() -> existsByIdAsync(id, entityType));
+    }
 
-        throw new IllegalStateException("not implemented");
+    @Override
+    public <T> boolean exists(Conditions query, Class<T> entityType) {
+        return getFutureValue(() -> existsAsync(query, entityType));
     }
 
     @Override
@@ -145,9 +275,10 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         Assert.notNull(entityClass, "Type must not be null!");
 
         TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
-        TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entityMetadata.getSpaceName()).insert(mapToTuple(entity, entityMetadata))
-        );
+        TarantoolResult<TarantoolTuple> result = getFutureValue(() -> executeWrite(entityClass,
+                () -> entityIds(Collections.singletonList(entity), entityMetadata),
+                () -> space(entityMetadata.getSpaceName()).insert(mapToTuple(entity, entityMetadata))
+        ));
         return mapFirstToEntity(result, entityClass);
     }
 
@@ -157,10 +288,20 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         Assert.notNull(entityClass, "Type must not be null!");
 
         TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
-        TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entityMetadata.getSpaceName()).replace(mapToTuple(entity, entityMetadata))
-        );
-        return mapFirstToEntity(result, entityClass);
+        TarantoolResult<TarantoolTuple> result = getFutureValue(() -> getWritePolicies(entityClass).save(entity,
+                () -> executeAsync(() -> replaceChanged(entity, entityMetadata))
+        ));
+        return result != null ? mapFirstToEntity(result, entityClass) : entity;
+    }
+
+    @Override
+    public <T> List<T> insertAll(Iterable<T> entities, Class<T> entityClass) {
+        return getFutureValue(() -> writeAll(entities, entityClass, TarantoolSpaceOperations::insert));
+    }
+
+    @Override
+    public <T> List<T> saveAll(Iterable<T> entities, Class<T> entityClass) {
+        return getFutureValue(() -> writeAll(entities, entityClass, TarantoolSpaceOperations::replace));
     }
 
     @Override
@@ -170,13 +311,34 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         return update(query, setNonNullFieldsFromTuple(newTuple), entityClass);
     }
 
+    @Override
+    public <T> long updateAll(Conditions query, T entity, Class<T> entityClass) {
+        Assert.notNull(entity, "Entity must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TupleOperations updateOperations = setNonNullFieldsFromTuple(mapToTuple(entity, entityMetadata));
+        return getFutureValue(() -> updateCountAsync(query, updateOperations, entityClass));
+    }
+
+    @Override
+    public <T, ID> T updateById(ID id, TarantoolUpdate update, Class<T> entityClass) {
+        return getFutureValue(() -> updateByIdAsync(id, update, entityClass));
+    }
+
+    @Override
+    public <T> void upsert(T entity, TarantoolUpdate update, Class<T> entityClass) {
+        getFutureValue(() -> upsertAsync(entity, update, entityClass));
+    }
+
     @Override
     public <T> T remove(T entity, Class<T> entityClass) {
         Assert.notNull(entity, "Entity must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
 
         Conditions query = idQueryFromEntity(entity);
-        return removeInternal(query, entityClass);
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        return removeInternal(query, () -> entityIds(Collections.singletonList(entity), entityMetadata), entityClass);
     }
 
     @Override
@@ -185,12 +347,301 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
         Assert.notNull(entityClass, "Entity class must not be null!");
 
         Conditions query = idQueryFromObject(id, entityClass);
-        return removeInternal(query, entityClass);
+        return removeInternal(query, () -> Collections.singletonList(id), entityClass);
+    }
+
+    @Override
+    public <T> List<T> removeAll(Iterable<T> entities, Class<T> entityClass) {
+        return getFutureValue(() -> removeAllEntities(entities, entityClass));
+    }
+
+    @Override
+    public <T, ID> List<T> removeAllById(Collection<ID> ids, Class<T> entityClass) {
+        return getFutureValue(() -> removeAllEntitiesById(ids, entityClass));
+    }
+
+    @Override
+    public <T> long deleteAll(Iterable<T> entities, Class<T> entityClass) {
+        return getFutureValue(() -> deleteAllEntities(entities, entityClass));
+    }
+
+    @Override
+    public <T, ID> long deleteAllById(Collection<ID> ids, Class<T> entityClass) {
+        return getFutureValue(() -> deleteAllEntitiesById(ids, entityClass));
     }
 
     @Override
     public void truncate(String spaceName) {
-        executeSync(() -> tarantoolClient.space(spaceName).truncate());
+        getFutureValue(() -> truncateAfter(spaceName, () -> executeAsync(() -> space(spaceName).truncate())));
+    }
+
+    /**
+     * Set the maximum number of requests sent to Tarantool and not completed yet by one batch operation, like
+     * {@link #saveAll(Iterable, Class)}. The next request of the batch is sent when one of the requests in flight is
+     * completed. Defaults to {@value #DEFAULT_MAX_IN_FLIGHT_REQUESTS}.
+     *
+     * @param maxInFlightRequests positive number of requests
+     */
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        Assert.isTrue(maxInFlightRequests > 0, "Max in-flight requests number must be greater than 0");
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * Return the maximum number of requests in flight for one batch operation
+     *
+     * @return number of requests
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Set the number of tuples fetched from Tarantool in one select request by the streaming operations, like
+     * {@link #stream(Conditions, Class)}. Defaults to the cursor batch size configured for the client.
+     *
+     * @param fetchSize positive number of tuples in a page
+     */
+    public void setFetchSize(int fetchSize) {
+        Assert.isTrue(fetchSize > 0, "Fetch size must be greater than 0");
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Return the number of tuples fetched from Tarantool in one select request by the streaming operations
+     *
+     * @return fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Set the maximum number of records sorted on the client side, when no TREE index of the space provides the
+     * order requested by a {@link Sort}. The sorted operations fail instead of loading more records into memory.
+     * Defaults to {@value #DEFAULT_MAX_CLIENT_SORT_SIZE}.
+     *
+     * @param maxClientSortSize positive number of records
+     */
+    public void setMaxClientSortSize(int maxClientSortSize) {
+        Assert.isTrue(maxClientSortSize > 0, "Max client sort size must be greater than 0");
+        this.maxClientSortSize = maxClientSortSize;
+    }
+
+    /**
+     * Return the maximum number of records sorted on the client side
+     *
+     * @return number of records
+     */
+    public int getMaxClientSortSize() {
+        return maxClientSortSize;
+    }
+
+    /**
+     * Set the number of records in a result starting from which the records are converted to entities by the
+     * {@link TarantoolExecutionStrategy} instead of the network thread of the client that received the result.
+     * Smaller results are converted in place, since the conversion is cheaper than switching threads. Use 0 for
+     * converting all results by the strategy. Defaults to {@value #DEFAULT_INLINE_DECODE_THRESHOLD}.
+     *
+     * @param inlineDecodeThreshold non-negative number of records
+     */
+    public void setInlineDecodeThreshold(int inlineDecodeThreshold) {
+        Assert.isTrue(inlineDecodeThreshold >= 0, "Inline decode threshold must not be negative");
+        this.inlineDecodeThreshold = inlineDecodeThreshold;
+    }
+
+    /**
+     * Return the number of records in a result starting from which the records are converted by the
+     * {@link TarantoolExecutionStrategy}
+     *
+     * @return number of records
+     */
+    public int getInlineDecodeThreshold() {
+        return inlineDecodeThreshold;
+    }
+
+    /**
+     * Set the timeout bounding each template operation not enclosed in {@link #withTimeout(Duration, Supplier)}.
+     * All requests of a composite operation share the timeout. The requests still in flight when the timeout
+     * elapses are cancelled and the operation fails with {@link QueryTimeoutException}. Not set by default, so
+     * the operations are bounded only by the request timeout of the client.
+     *
+     * @param defaultTimeout positive timeout or null for not bounding the operations
+     */
+    public void setDefaultTimeout(@Nullable Duration defaultTimeout) {
+        Assert.isTrue(defaultTimeout == null || !defaultTimeout.isNegative() && !defaultTimeout.isZero(),
+                "Default timeout must be positive");
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Return the timeout bounding each template operation
+     *
+     * @return timeout or null if the operations are not bounded
+     */
+    @Nullable
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Reload the spaces and indexes metadata from Tarantool after the schema was changed and drop the metadata the
+     * template resolved before. The metadata is also reloaded when an operation fails because of unknown space,
+     * index or field.
+     */
+    public void refreshMetadata() {
+        try {
+            getFutureValue(() -> tarantoolClient.metadata().refresh());
+        } finally {
+            invalidateMetadata();
+        }
+    }
+
+    /**
+     * Return the number of stored function calls that reused a cached result mapper
+     *
+     * @return cache hits number
+     */
+    public long getResultMapperCacheHitCount() {
+        return resultMapperCache.getHitCount();
+    }
+
+    /**
+     * Return the number of stored function calls that built a new result mapper. At most
+     * {@value #MAX_CACHED_RESULT_MAPPERS} mappers are cached, they are rebuilt after the metadata is refreshed.
+     *
+     * @return cache misses number
+     */
+    public long getResultMapperCacheMissCount() {
+        return resultMapperCache.getMissCount();
+    }
+
+    /**
+     * Enable sharing one request between the concurrent identical reads: the concurrent {@code findById} calls with
+     * the same id and the concurrent stored function calls with the same arguments mapping the results to entities,
+     * like the {@code @Query} repository methods, wait for the same response. Each caller receives its own entities.
+     * Enable it only if the functions called this way do not change the data, since the concurrent identical calls
+     * are executed once. Disabled by default.
+     *
+     * @param requestCoalescing true for sharing the requests
+     */
+    public void setRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
+
+    /**
+     * Return whether the concurrent identical reads share one request
+     *
+     * @return true if the requests are shared
+     */
+    public boolean isRequestCoalescing() {
+        return requestCoalescing;
+    }
+
+    /**
+     * Return the number of calls that received the response of an identical request already in flight
+     *
+     * @return coalesced calls number
+     */
+    public long getCoalescedRequestCount() {
+        return requestCoalescer.getCoalescedCount();
+    }
+
+    /**
+     * Return the counters of the near cache of the entity marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolCache}
+     *
+     * @param entityClass entity class
+     * @return cache statistics or null if the entity is not cached
+     */
+    @Nullable
+    public TarantoolCacheStatistics getCacheStatistics(Class<?> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        NearCache cache = getWritePolicies(entityClass).getNearCache();
+        return cache != null ? cache.getStatistics() : null;
+    }
+
+    /**
+     * Drop the primary keys loaded into the negative lookup filter of the entity marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolBloomFilter}, e.g. after its space is written
+     * bypassing the template. The lookups are sent to Tarantool until the keys are loaded again, which is started by
+     * the next lookup.
+     *
+     * @param entityClass entity class
+     */
+    public void invalidateKeyFilter(Class<?> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        KeyBloomFilter filter = getWritePolicies(entityClass).getKeyFilter();
+        if (filter != null) {
+            filter.invalidate();
+        }
+    }
+
+    /**
+     * Write the entities buffered for the entities marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind} and wait for the writes to be
+     * completed, at most for the default timeout. Called on shutdown for the template created by the data
+     * configuration.
+     *
+     * @throws org.springframework.dao.DataAccessResourceFailureException if any buffered write failed since the
+     *                                                                    previous call, the failures of the other
+     *                                                                    entities are added as suppressed
+     */
+    public void flush() {
+        RuntimeException failure = callWithDeadline(() -> {
+            List<CompletableFuture<Void>> flushes = writePolicies.values().stream()
+                    .map(EntityWritePolicies::getWriteBehindBuffer)
+                    .filter(Objects::nonNull)
+                    .map(WriteBehindBuffer::flush)
+                    .collect(Collectors.toList());
+            RuntimeException firstFailure = null;
+            for (CompletableFuture<Void> flush : flushes) {
+                try {
+                    getFutureValue(flush);
+                } catch (RuntimeException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    } else {
+                        firstFailure.addSuppressed(e);
+                    }
+                }
+            }
+            return firstFailure;
+        });
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Return the counters of the write-behind buffer of the entity marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind}
+     *
+     * @param entityClass entity class
+     * @return buffer statistics or null if the entity is written directly
+     */
+    @Nullable
+    public TarantoolWriteBehindStatistics getWriteBehindStatistics(Class<?> entityClass) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        WriteBehindBuffer buffer = getWritePolicies(entityClass).getWriteBehindBuffer();
+        return buffer != null ? buffer.getStatistics() : null;
+    }
+
+    private void invalidateMetadata() {
+        spaceMetadataCache.invalidate();
+        resultMapperCache.invalidate();
+    }
+
+    @Override
+    public <R> R withTimeout(Duration timeout, Supplier<R> action) {
+        Assert.notNull(timeout, "Timeout must not be null!");
+        Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+        Assert.notNull(action, "Action must not be null!");
+
+        return OperationDeadline.after(timeout).earliest(OperationDeadline.current()).call(action);
     }
 
     @Override
@@ -213,13 +664,16 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
      * @return condition for this id object
      */
     protected <T> Conditions idQueryFromEntity(T source) {
-        TarantoolPersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
-        Assert.notNull(entity, "Failed to get entity class for " + source.getClass());
-
+        PrimaryKeyEncoder keyEncoder = primaryKeyEncoders.get(source.getClass());
+        if (keyEncoder == null) {
+            TarantoolPersistentEntity<?> entity = mappingContext.getPersistentEntity(source.getClass());
+            Assert.notNull(entity, "Failed to get entity class for " + source.getClass());
+            keyEncoder = getPrimaryKeyEncoder(source.getClass(), entity);
+        }
+        TarantoolPersistentEntity<?> entity = keyEncoder.getEntity();
         Object idValue = entity.getIdentifierAccessor(source).getRequiredIdentifier();
 
-        List<?> indexPartValues = getIndexPartValues(idValue, entity);
-        return createIndexEqualsConditionFromParts(indexPartValues);
+        return idQuery(idValue, keyEncoder);
     }
 
     /**
@@ -234,103 +688,1298 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
      * @return condition for this id object
      */
     protected <T> Conditions idQueryFromObject(T source, Class<?> entityClass) {
-        TarantoolPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-        Assert.notNull(entity, "Failed to get entity class for " + entityClass +
-                ". Possibly @Tuple annotation is missing on the class.");
+        PrimaryKeyEncoder keyEncoder = primaryKeyEncoders.get(entityClass);
+        if (keyEncoder == null) {
+            TarantoolPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+            Assert.notNull(entity, "Failed to get entity class for " + entityClass +
+                    ". Possibly @Tuple annotation is missing on the class.");
+            keyEncoder = getPrimaryKeyEncoder(entityClass, entity);
+        }
+
+        return idQuery(source, keyEncoder);
+    }
+
+    private PrimaryKeyEncoder getPrimaryKeyEncoder(Class<?> entityClass, TarantoolPersistentEntity<?> entity) {
+        return primaryKeyEncoders.computeIfAbsent(entityClass,
+                type -> PrimaryKeyEncoder.of(entity, converter.getCustomConversions()));
+    }
 
-        List<?> indexPartValues = getIndexPartValues(source, entity);
+    private Conditions idQuery(Object idValue, PrimaryKeyEncoder keyEncoder) {
+        Conditions query = keyEncoder.encode(idValue);
+        if (query != null) {
+            return query;
+        }
+        List<?> indexPartValues = getIndexPartValues(idValue, keyEncoder.getEntity());
         return createIndexEqualsConditionFromParts(indexPartValues);
     }
 
     protected <T> List<T> update(Conditions query, TupleOperations updateOperations, Class<T> entityClass) {
+        return getFutureValue(() -> updateAsync(query, updateOperations, entityClass));
+    }
+
+    /**
+     * Update the records matching the query and return the updated entities. The conditions and the operations are
+     * sent to Tarantool in one request, which selects and updates the tuples on the server side. If the helper
+     * cannot run there, the records are selected and updated by the primary key as a batch.
+     *
+     * @param query            tuple selection conditions
+     * @param updateOperations update operations
+     * @param entityClass      entity class
+     * @param <T>              target entity type
+     * @return future with the updated entities
+     */
+    protected <T> CompletableFuture<List<T>> updateAsync(Conditions query, TupleOperations updateOperations,
+                                                         Class<T> entityClass) {
         Assert.notNull(query, "Conditions must not be null!");
         Assert.notNull(updateOperations, "Update operations must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
 
         TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
-        TarantoolResult<TarantoolTuple> tuplesForUpdate = executeSync(() ->
-                tarantoolClient.space(entityMetadata.getSpaceName()).select(query)
-        );
-        List<CompletableFuture<TarantoolResult<TarantoolTuple>>> futures = tuplesForUpdate.stream()
-                .map(tuple -> tarantoolClient.space(entityMetadata.getSpaceName())
-                        .update(idQueryFromTuple(tuple, entityMetadata), updateOperations))
-                .collect(Collectors.toList());
-        return getFutureValue(queryExecutors.submit(
-                () -> futures.stream().parallel()
-                        .map(this::getFutureValue)
-                        .map(tuples -> mapFirstToEntity(tuples, entityClass))
-                        .collect(Collectors.toList())
-        ));
-    }
-
-    protected TupleOperations setNonNullFieldsFromTuple(TarantoolTuple tuple) {
-        final AtomicReference<TupleOperations> result = new AtomicReference<>();
-        TupleOperations.fromTarantoolTuple(tuple).asList()
-                .stream().filter(o -> !(o.getValue() instanceof io.tarantool.driver.api.tuple.TarantoolNullField))
-                .forEach(op -> {
-                    if (result.get() == null) {
-                        result.set(TupleOperations.set(op.getFieldIndex(), op.getValue()));
-                    } else {
-                        result.get().addOperation(op);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        return getWritePolicies(entityClass).update(null, () -> bulkUpdate(space, query, updateOperations, true)
+                .thenCompose(result -> {
+                    if (result != null) {
+                        return decode(CompletableFuture.completedFuture((List<?>) result), tuples -> tuples.stream()
+                                .map(fields -> new TarantoolTupleImpl((List<?>) fields, mapper, space.getMetadata()))
+                                .map(tuple -> mapToEntity(tuple, entityClass))
+                                .collect(Collectors.toList()));
                     }
-                });
-        return result.get();
+                    return updateByKeys(space, query, updateOperations, entityMetadata,
+                            tuples -> mapFirstToEntity(tuples, entityClass));
+                }));
     }
 
-    @Nullable
-    protected <T> T removeInternal(Conditions query, Class<T> entityClass) {
+    /**
+     * Update the records matching the query and return only their number, the updated tuples are not transferred
+     * back if the update is done on the server side.
+     *
+     * @param query            tuple selection conditions
+     * @param updateOperations update operations
+     * @param entityClass      entity class
+     * @param <T>              target entity type
+     * @return future with the number of updated records
+     * @see #updateAsync(Conditions, TupleOperations, Class)
+     */
+    protected <T> CompletableFuture<Long> updateCountAsync(Conditions query, TupleOperations updateOperations,
+                                                           Class<T> entityClass) {
+        Assert.notNull(query, "Conditions must not be null!");
+        Assert.notNull(updateOperations, "Update operations must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
         TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
-        TarantoolResult<TarantoolTuple> result = executeSync(() ->
-                tarantoolClient.space(entityMetadata.getSpaceName()).delete(query)
-        );
-        return mapFirstToEntity(result, entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        return getWritePolicies(entityClass).update(null, () -> bulkUpdate(space, query, updateOperations, false)
+                .thenCompose(result -> result != null ?
+                        CompletableFuture.completedFuture(((Number) result).longValue()) :
+                        updateByKeys(space, query, updateOperations, entityMetadata, TarantoolResult::size)
+                                .thenApply(BaseTarantoolTemplate::sum)));
     }
 
-    protected <T> TarantoolTuple mapToTuple(T entity, TarantoolPersistentEntity<?> entityMetadata) {
-        Optional<TarantoolSpaceMetadata> spaceMetadata = tarantoolClient.metadata()
-                .getSpaceByName(entityMetadata.getSpaceName());
-        TarantoolTuple tuple = spaceMetadata.isPresent() ?
-                new TarantoolTupleImpl(getMessagePackMapper(), spaceMetadata.get()) :
-                new TarantoolTupleImpl(getMessagePackMapper());
-        getConverter().write(entity, tuple);
-        return tuple;
+    /**
+     * Send the update of the tuples matching the query to Tarantool in one request. Spaces accessed via the proxy
+     * API are updated with the crud module on the router: the matching tuples are selected page by page and updated
+     * by the primary key one by one, not atomically. The other spaces are updated in one transaction on the
+     * instance. If the helper function is not permitted or the crud module is not available, the future is completed
+     * with null and the helper is not used for the space anymore.
+     *
+     * @param space            space operations
+     * @param query            tuple selection conditions
+     * @param updateOperations update operations
+     * @param returnTuples     whether the updated tuples are returned or only their number
+     * @return future with the list of updated tuple fields, the number of updated tuples or null
+     */
+    private CompletableFuture<Object> bulkUpdate(
+            TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space, Conditions query,
+            TupleOperations updateOperations, boolean returnTuples) {
+        String spaceName = space.getMetadata().getSpaceName();
+        if (bulkUpdateUnavailableSpaces.contains(spaceName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<TupleOperation> operations = updateOperations.asProxyOperationList();
+        return executeAsync(() -> {
+            CompletableFuture<List<?>> request;
+            if (space instanceof ProxyTarantoolSpace) {
+                Optional<TarantoolIndexMetadata> primaryIndex = tarantoolClient.metadata().getIndexById(spaceName, 0);
+                if (!primaryIndex.isPresent()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                List<Integer> keyFields = primaryIndex.get().getIndexParts().stream()
+                        .map(part -> part.getFieldIndex() + 1)
+                        .collect(Collectors.toList());
+                Long first = query.getLimit() < Conditions.any().getLimit() ?
+                        query.getOffset() + query.getLimit() : null;
+                request = callHelper(BulkUpdateScripts.CRUD_UPDATE_FUNCTION, BulkUpdateScripts.CRUD_UPDATE_REGISTRATION,
+                        Arrays.asList(spaceName, query.toProxyQuery(tarantoolClient.metadata(), space.getMetadata()),
+                                keyFields, operations, query.getOffset(), first, fetchSize, returnTuples));
+            } else {
+                TarantoolIndexQuery indexQuery = query.toIndexQuery(tarantoolClient.metadata(), space.getMetadata());
+                request = callHelper(BulkUpdateScripts.BOX_UPDATE_FUNCTION, BulkUpdateScripts.BOX_UPDATE_REGISTRATION,
+                        Arrays.asList(spaceName, indexQuery.getIndexId(), indexQuery.getKeyValues(),
+                                indexQuery.getIteratorType().getStringCode(), query.getOffset(), query.getLimit(),
+                                operations, returnTuples));
+            }
+            return request.handle((result, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (!(cause instanceof TarantoolAccessDeniedException)) {
+                        throw error instanceof CompletionException ?
+                                (CompletionException) error : new CompletionException(error);
+                    }
+                } else if (!result.isEmpty() && result.get(0) != null) {
+                    return result.get(0);
+                }
+                bulkUpdateUnavailableSpaces.add(spaceName);
+                return null;
+            });
+        });
     }
 
-    protected <R> R executeSync(Supplier<CompletableFuture<R>> func) {
-        return getFutureValue(func.get());
-    }
+    /**
+     * Call the helper function by name. If it is not defined on the instance, evaluate the registration script
+     * defining and calling it, so the instance serving the request compiles the helper only once.
+     *
+     * @param functionName name of the helper function
+     * @param registration script defining the function and calling it with the script arguments
+     * @param arguments    function arguments
+     * @return future with the function result
+     */
+    private CompletableFuture<List<?>> callHelper(String functionName, String registration, List<?> arguments) {
+        return tarantoolClient.call(functionName, arguments).handle((result, error) -> {
+            if (error == null) {
+                return CompletableFuture.<List<?>>completedFuture(result);
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof TarantoolNoSuchProcedureException) {
+                return tarantoolClient.eval(registration, arguments);
+            }
+            CompletableFuture<List<?>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(cause);
+            return failed;
+        }).thenCompose(Function.identity());
+    }
+
+    private <R> CompletableFuture<List<R>> updateByKeys(
+            TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space, Conditions query,
+            TupleOperations updateOperations, TarantoolPersistentEntity<?> entityMetadata,
+            Function<TarantoolResult<TarantoolTuple>, R> resultMapper) {
+        return executeAsync(() -> space.select(query))
+                .thenCompose(tuples -> executeBatch(tuples, tuple ->
+                        space.update(idQueryFromTuple(tuple, entityMetadata), updateOperations)
+                                .thenApply(resultMapper)));
+    }
+
+    /**
+     * Map the entities to tuples and write them with the specified space operation as a batch. The entities are
+     * mapped when the corresponding request is sent.
+     *
+     * @param entities    entities to write
+     * @param entityClass entity class
+     * @param operation   space operation for writing a tuple
+     * @param <T>         target entity type
+     * @return future with the written entities in the input order
+     */
+    protected <T> CompletableFuture<List<T>> writeAll(
+            Iterable<T> entities, Class<T> entityClass,
+            BiFunction<TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>>, TarantoolTuple,
+                    CompletableFuture<TarantoolResult<TarantoolTuple>>> operation) {
+        Assert.notNull(entities, "Entities must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        List<T> items = toList(entities);
+        return getWritePolicies(entityClass).write(() -> entityIds(items, entityMetadata), () -> executeBatch(items,
+                entity -> operation.apply(space, mapToTuple(entity, entityMetadata))
+                        .thenApply(result -> mapFirstToEntity(result, entityClass))));
+    }
+
+    /**
+     * Write the entities taken from the write-behind buffer with the space replace operation as a batch. Unlike
+     * {@link #writeAll(Iterable, Class, BiFunction)}, does not wait for the buffered writes.
+     *
+     * @param entities    buffered entities
+     * @param entityClass entity class
+     * @return future completed when all entities are written
+     */
+    private CompletableFuture<List<Object>> writeBuffered(List<Object> entities, Class<?> entityClass) {
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        return getWritePolicies(entityClass).writeFlushed(entityIds(entities, entityMetadata), () ->
+                executeBatch(entities, entity -> space.replace(mapToTuple(entity, entityMetadata))
+                        .thenApply(result -> entity)));
+    }
+
+    /**
+     * Select the entities by the primary key values as a batch. The tuples are mapped to entities as soon as the
+     * corresponding request is completed.
+     *
+     * @param ids         entity identifiers, the duplicates are selected once
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @param <ID>        target entity identifier type
+     * @return future with the found entities by identifier in the input order
+     */
+    protected <T, ID> CompletableFuture<Map<ID, T>> selectAllById(Collection<ID> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "Ids must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        String spaceName = mappingContext.getRequiredPersistentEntity(entityClass).getSpaceName();
+        List<ID> keys = new LinkedHashSet<>(ids).stream()
+                .filter(id -> !isAbsent(id, entityClass))
+                .collect(Collectors.toList());
+        return executeBatch(keys, id -> space(spaceName).select(idQueryFromObject(id, entityClass).withLimit(1))
+                .thenApply(result -> mapFirstToEntity(result, entityClass)))
+                .thenApply(entities -> {
+                    Map<ID, T> result = new LinkedHashMap<>();
+                    for (int i = 0; i < keys.size(); i++) {
+                        if (entities.get(i) != null) {
+                            result.put(keys.get(i), entities.get(i));
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Select all records of the space in the specified order. The order is provided by a TREE index of the space if
+     * the sort matches one, otherwise the records are sorted on the client side.
+     *
+     * @param sort        requested order
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the sorted entities
+     * @throws InvalidDataAccessApiUsageException if the records have to be sorted on the client side and there are
+     *                                            more than {@link #getMaxClientSortSize()} of them
+     */
+    protected <T> CompletableFuture<List<T>> selectSorted(Sort sort, Class<T> entityClass) {
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        Conditions query = sortedQuery(entityMetadata, sort);
+        if (query == null) {
+            return selectSortedOnClient(Conditions.any(), sort, entityClass);
+        }
+        return executeAsync(() -> decode(space(entityMetadata.getSpaceName()).select(query),
+                result -> mapToEntities(result, entityClass)));
+    }
+
+    /**
+     * Select the records matching the query and read the projections from them. When the space is accessed through
+     * the cartridge router, only the fields used by the projection are selected, otherwise the full tuples are
+     * returned. Open interface projections and the projections not matching the entity properties need the full
+     * tuples as well.
+     *
+     * @param query       tuple selection conditions
+     * @param entityClass entity class
+     * @param resultType  projection interface or DTO class
+     * @param <T>         entity type
+     * @param <R>         projection type
+     * @return future with the projections
+     */
+    protected <T, R> CompletableFuture<List<R>> selectProjections(Conditions query, Class<T> entityClass,
+                                                                 Class<R> resultType) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(resultType, "Result type must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        ProjectionReader<R> reader = getProjectionReader(entityClass, resultType);
+        List<String> fieldNames = reader.getFieldNames();
+        ProxySelectOptions options = fieldNames == null ?
+                ProxySelectOptions.create() : ProxySelectOptions.create().withFields(fieldNames);
+        return executeAsync(() -> decode(space(entityMetadata.getSpaceName()).select(query, options),
+                result -> result.stream().map(reader::read).collect(Collectors.toList())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ProjectionReader<R> getProjectionReader(Class<?> entityClass, Class<R> resultType) {
+        return (ProjectionReader<R>) projectionReaders.computeIfAbsent(Arrays.asList(entityClass, resultType),
+                key -> ProjectionReader.of(mappingContext.getRequiredPersistentEntity(entityClass), resultType,
+                        projectionFactory, getConverter()));
+    }
+
+    /**
+     * Select a page of the records matching the query. The page is selected after the last tuple of the previous
+     * page if the pageable is a {@link TarantoolPageRequest} returned with the previous slice, otherwise the tuples
+     * before the page are skipped by offset. One extra tuple is selected for determining if there is the next page.
+     * If the pageable is sorted and either the query has conditions or no index matches the sort, all matching
+     * records are sorted on the client side and the page is cut from them.
+     *
+     * @param query       tuple selection conditions
+     * @param pageable    page request
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the slice, its pageable is a {@link TarantoolPageRequest} for selecting the next page
+     * @throws InvalidDataAccessApiUsageException if the records have to be sorted on the client side and there are
+     *                                            more than {@link #getMaxClientSortSize()} of them
+     */
+    protected <T> CompletableFuture<Slice<T>> selectSlice(Conditions query, Pageable pageable, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(pageable, "Pageable must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        Sort sort = pageable.getSort();
+        IndexScan indexScan;
+        Conditions scanQuery;
+        if (sort.isSorted()) {
+            indexScan = isFullScan(query) ? IndexScan.forSort(tarantoolClient.metadata(), entityMetadata, sort) : null;
+            if (indexScan == null) {
+                return selectSortedOnClient(query, sort, entityClass)
+                        .thenApply(entities -> sortedSlice(entities, pageable));
+            }
+            scanQuery = indexScan.conditions();
+        } else {
+            indexScan = isFullScan(query) ?
+                    IndexScan.primary(tarantoolClient.metadata(), entityMetadata.getSpaceName()) : null;
+            scanQuery = query;
+        }
+        if (pageable.isUnpaged()) {
+            return executeAsync(() -> decode(space.select(scanQuery),
+                    result -> new SliceImpl<>(mapToEntities(result, entityClass))));
+        }
+
+        int size = pageable.getPageSize();
+        TarantoolTuple after = pageable instanceof TarantoolPageRequest ?
+                ((TarantoolPageRequest) pageable).getAfter() : null;
+        Conditions pageQuery = null;
+        if (after != null && space instanceof ProxyTarantoolSpace) {
+            pageQuery = new Conditions(scanQuery).withOffset(0).startAfter(after);
+        } else if (after != null && indexScan != null) {
+            pageQuery = indexScan.after(after);
+        }
+        if (pageQuery == null) {
+            pageQuery = new Conditions(scanQuery).withOffset(pageable.getOffset());
+        }
+        Conditions sliceQuery = pageQuery.withLimit(size + 1L);
+        return executeAsync(() -> decode(space.select(sliceQuery),
+                tuples -> {
+                    boolean hasNext = tuples.size() > size;
+                    List<TarantoolTuple> pageTuples = hasNext ? tuples.subList(0, size) : tuples;
+                    TarantoolTuple lastTuple = pageTuples.isEmpty() ? null : pageTuples.get(pageTuples.size() - 1);
+                    List<T> content = pageTuples.stream()
+                            .map(tuple -> mapToEntity(tuple, entityClass))
+                            .collect(Collectors.toList());
+                    return new SliceImpl<>(content, TarantoolPageRequest.selected(pageable, lastTuple), hasNext);
+                }));
+    }
+
+    /**
+     * Get the conditions selecting all records of the entity space in the specified order
+     *
+     * @param entityMetadata entity metadata
+     * @param sort           requested order
+     * @return select conditions or null if no index matches the sort, so the records must be sorted on the client
+     */
+    @Nullable
+    protected Conditions sortedQuery(TarantoolPersistentEntity<?> entityMetadata, Sort sort) {
+        if (sort.isUnsorted()) {
+            return Conditions.any();
+        }
+        IndexScan indexScan = IndexScan.forSort(tarantoolClient.metadata(), entityMetadata, sort);
+        return indexScan != null ? indexScan.conditions() : null;
+    }
+
+    /**
+     * Select the records matching the query and sort them on the client side. The limit and the offset of the
+     * query are ignored, at most {@link #getMaxClientSortSize()} records are selected, so the memory used for
+     * sorting is bounded.
+     *
+     * @param query       tuple selection conditions
+     * @param sort        requested order
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the sorted entities
+     * @throws InvalidDataAccessApiUsageException if more than {@link #getMaxClientSortSize()} records match the query
+     */
+    protected <T> CompletableFuture<List<T>> selectSortedOnClient(Conditions query, Sort sort, Class<T> entityClass) {
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        EntityComparator comparator = new EntityComparator(entityMetadata, sort);
+        int maxSize = maxClientSortSize;
+        Conditions boundedQuery = new Conditions(query).withOffset(0).withLimit(maxSize + 1L);
+        return executeAsync(() -> decode(space(entityMetadata.getSpaceName()).select(boundedQuery),
+                tuples -> {
+                    if (tuples.size() > maxSize) {
+                        throw new InvalidDataAccessApiUsageException(String.format(
+                                "More than %d records in space %s have to be sorted on the client side, "
+                                        + "create a TREE index matching the sort %s",
+                                maxSize, entityMetadata.getSpaceName(), sort));
+                    }
+                    List<T> entities = mapToEntities(tuples, entityClass);
+                    entities.sort(comparator);
+                    return entities;
+                }));
+    }
+
+    private static <T> Slice<T> sortedSlice(List<T> entities, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(entities);
+        }
+        int from = (int) Math.min(pageable.getOffset(), entities.size());
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), entities.size());
+        return new SliceImpl<>(new ArrayList<>(entities.subList(from, to)),
+                TarantoolPageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()),
+                to < entities.size());
+    }
+
+    private static boolean isFullScan(Conditions query) {
+        return Conditions.any().withLimit(query.getLimit()).withOffset(query.getOffset()).equals(query);
+    }
+
+    /**
+     * Count the records matching the query on the Tarantool side. The spaces accessed via the proxy API are counted
+     * with the crud module, the other spaces with the index count. The number of all records is taken from the
+     * space length without scanning it. The limit and the offset of the query are applied to the number.
+     *
+     * @param query       tuple selection conditions
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the number of records
+     */
+    protected <T> CompletableFuture<Long> countAsync(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        String spaceName = mappingContext.getRequiredPersistentEntity(entityClass).getSpaceName();
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(spaceName);
+        boolean fullScan = isFullScan(query);
+        return executeAsync(() -> {
+            if (space instanceof ProxyTarantoolSpace) {
+                List<?> arguments = fullScan ? Collections.singletonList(spaceName) :
+                        Arrays.asList(spaceName, query.toProxyQuery(tarantoolClient.metadata(), space.getMetadata()));
+                return tarantoolClient.callForSingleResult(fullScan ? CRUD_LEN_FUNCTION : CRUD_COUNT_FUNCTION,
+                        arguments, value -> value.asIntegerValue().toLong());
+            }
+            if (fullScan) {
+                return tarantoolClient.eval(SPACE_LEN_SCRIPT, Collections.singletonList(spaceName))
+                        .thenApply(BaseTarantoolTemplate::firstAsLong);
+            }
+            TarantoolIndexQuery indexQuery = query.toIndexQuery(tarantoolClient.metadata(), space.getMetadata());
+            return tarantoolClient.eval(INDEX_COUNT_SCRIPT, Arrays.asList(spaceName, indexQuery.getIndexId(),
+                            indexQuery.getKeyValues(), indexQuery.getIteratorType().getStringCode()))
+                    .thenApply(BaseTarantoolTemplate::firstAsLong);
+        }).thenApply(total -> Math.min(Math.max(0, total - query.getOffset()), query.getLimit()));
+    }
+
+    protected <T, ID> CompletableFuture<T> updateByIdAsync(ID id, TarantoolUpdate update, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(update, "Update must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TupleOperations updateOperations = toTupleOperations(update, entityMetadata);
+        Conditions query = idQueryFromObject(id, entityClass);
+        return getWritePolicies(entityClass).update(() -> Collections.singletonList(id), () -> executeAsync(() ->
+                space(entityMetadata.getSpaceName()).update(query, updateOperations)
+                        .thenApply(result -> mapFirstToEntity(result, entityClass))));
+    }
+
+    protected <T> CompletableFuture<Void> upsertAsync(T entity, TarantoolUpdate update, Class<T> entityClass) {
+        Assert.notNull(entity, "Entity must not be null!");
+        Assert.notNull(update, "Update must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TupleOperations updateOperations = toTupleOperations(update, entityMetadata);
+        Conditions query = idQueryFromEntity(entity);
+        return getWritePolicies(entityClass).update(() -> entityIds(Collections.singletonList(entity), entityMetadata),
+                () -> executeAsync(() -> space(entityMetadata.getSpaceName())
+                        .upsert(query, mapToTuple(entity, entityMetadata), updateOperations)
+                        .thenApply(result -> null)));
+    }
+
+    /**
+     * Resolve the entity property names of the update to the tuple field positions
+     *
+     * @param update         field operations by the entity property names
+     * @param entityMetadata entity metadata
+     * @return driver update operations
+     */
+    protected TupleOperations toTupleOperations(TarantoolUpdate update, TarantoolPersistentEntity<?> entityMetadata) {
+        List<TarantoolUpdate.Operation> operations = update.getOperations();
+        Assert.notEmpty(operations, "Update must contain at least one operation!");
+
+        String spaceName = entityMetadata.getSpaceName();
+        TarantoolSpaceMetadata spaceMetadata = getSpaceMetadata(spaceName)
+                .orElseThrow(() -> new TarantoolMetadataMissingException(spaceName));
+        TupleOperations result = null;
+        for (TarantoolUpdate.Operation operation : operations) {
+            String fieldName = entityMetadata.getRequiredPersistentProperty(operation.getProperty()).getFieldName();
+            if (!spaceMetadata.getFieldByName(fieldName).isPresent()) {
+                throw new InvalidDataAccessApiUsageException(String.format(
+                        "Field %s of property %s is not found in the format of space %s",
+                        fieldName, operation.getProperty(), spaceName));
+            }
+            result = addTupleOperation(result, operation, spaceMetadata.getFieldPositionByName(fieldName));
+        }
+        return result;
+    }
+
+    private TupleOperations addTupleOperation(@Nullable TupleOperations operations,
+                                              TarantoolUpdate.Operation operation, int field) {
+        Object value = operation.getValue();
+        switch (operation.getType()) {
+            case SET:
+                Object converted = value != null ? mapParameters(Collections.singletonList(value)).get(0) : null;
+                return operations == null ?
+                        TupleOperations.set(field, converted) : operations.andSet(field, converted);
+            case ADD:
+                return operations == null ?
+                        TupleOperations.add(field, (Number) value) : operations.andAdd(field, (Number) value);
+            case SUBTRACT:
+                return operations == null ? TupleOperations.subtract(field, (Number) value) :
+                        operations.andSubtract(field, (Number) value);
+            case BITWISEAND:
+                return operations == null ? TupleOperations.bitwiseAnd(field, (Long) value) :
+                        operations.andBitwiseAnd(field, (Long) value);
+            case BITWISEOR:
+                return operations == null ? TupleOperations.bitwiseOr(field, (Long) value) :
+                        operations.andBitwiseOr(field, (Long) value);
+            case BITWISEXOR:
+                return operations == null ? TupleOperations.bitwiseXor(field, (Long) value) :
+                        operations.andBitwiseXor(field, (Long) value);
+            case SPLICE:
+                return operations == null ?
+                        TupleOperations.splice(field, operation.getPosition(), operation.getDeleteCount(),
+                                (String) value) :
+                        operations.andSplice(field, operation.getPosition(), operation.getDeleteCount(),
+                                (String) value);
+            default:
+                throw new IllegalArgumentException("Unsupported update operation " + operation.getType());
+        }
+    }
+
+    protected <T, ID> CompletableFuture<Boolean> existsByIdAsync(ID id, Class<T> entityClass) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        if (isAbsent(id, entityClass)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return countAsync(idQueryFromObject(id, entityClass), entityClass).thenApply(count -> count > 0);
+    }
+
+    /**
+     * Check if any record matches the query. At most one tuple is selected, and only its primary key fields are
+     * returned if the space is accessed via the cartridge router. The tuple is not mapped to the entity.
+     *
+     * @param query       tuple selection conditions
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with true if a record is found
+     */
+    protected <T> CompletableFuture<Boolean> existsAsync(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        String spaceName = mappingContext.getRequiredPersistentEntity(entityClass).getSpaceName();
+        List<String> keyFields = primaryKeyFieldNames(spaceName);
+        ProxySelectOptions options = keyFields == null ?
+                ProxySelectOptions.create() : ProxySelectOptions.create().withFields(keyFields);
+        Conditions existsQuery = new Conditions(query).withLimit(1);
+        return executeAsync(() -> space(spaceName).select(existsQuery, options).thenApply(result -> !result.isEmpty()));
+    }
+
+    /**
+     * Return the names of the primary key fields of the space
+     *
+     * @param spaceName space name
+     * @return field names or null if the space metadata is not available
+     */
+    @Nullable
+    private List<String> primaryKeyFieldNames(String spaceName) {
+        Optional<TarantoolSpaceMetadata> spaceMetadata = tarantoolClient.metadata().getSpaceByName(spaceName);
+        Optional<TarantoolIndexMetadata> primaryIndex = tarantoolClient.metadata().getIndexById(spaceName, 0);
+        if (!spaceMetadata.isPresent() || !primaryIndex.isPresent()) {
+            return null;
+        }
+        List<String> fieldNames = new ArrayList<>();
+        for (TarantoolIndexPartMetadata<?> part : primaryIndex.get().getIndexParts()) {
+            String fieldName = spaceMetadata.get().getFieldNameByPosition(part.getFieldIndex()).orElse(null);
+            if (fieldName == null) {
+                return null;
+            }
+            fieldNames.add(fieldName);
+        }
+        return fieldNames;
+    }
+
+    /**
+     * Select the records matching the query and delete them by the primary key as a batch.
+     *
+     * @param query       tuple selection conditions
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the removed entities
+     */
+    protected <T> CompletableFuture<List<T>> selectAndRemove(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        return getWritePolicies(entityClass).write(null, () -> executeAsync(() -> space.select(query))
+                .thenCompose(tuples -> deleteBatch(tuples, entityClass,
+                        tuple -> idQueryFromTuple(tuple, entityMetadata),
+                        result -> mapRemovedToEntity(result, entityClass)))
+                .thenApply(BaseTarantoolTemplate::withoutNulls));
+    }
+
+    protected <T> CompletableFuture<List<T>> removeAllEntities(Iterable<T> entities, Class<T> entityClass) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        List<T> items = toList(entities);
+        return getWritePolicies(entityClass).remove(entityIds(items, entityClass), () -> deleteBatch(items, entityClass,
+                this::idQueryFromEntity, result -> mapRemovedToEntity(result, entityClass)))
+                .thenApply(BaseTarantoolTemplate::withoutNulls);
+    }
+
+    protected <T, ID> CompletableFuture<List<T>> removeAllEntitiesById(Collection<ID> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        List<ID> keys = new ArrayList<>(new LinkedHashSet<>(ids));
+        return getWritePolicies(entityClass).remove(keys, () -> deleteBatch(keys, entityClass,
+                id -> idQueryFromObject(id, entityClass), result -> mapRemovedToEntity(result, entityClass)))
+                .thenApply(BaseTarantoolTemplate::withoutNulls);
+    }
+
+    protected <T> CompletableFuture<Long> deleteAllEntities(Iterable<T> entities, Class<T> entityClass) {
+        Assert.notNull(entities, "Entities must not be null!");
+
+        List<T> items = toList(entities);
+        List<?> keys = entityIds(items, entityClass);
+        return getWritePolicies(entityClass).remove(keys, () -> deleteBatch(items, entityClass,
+                this::idQueryFromEntity, TarantoolResult::size))
+                .thenApply(BaseTarantoolTemplate::sum);
+    }
+
+    protected <T, ID> CompletableFuture<Long> deleteAllEntitiesById(Collection<ID> ids, Class<T> entityClass) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        List<ID> keys = new ArrayList<>(new LinkedHashSet<>(ids));
+        return getWritePolicies(entityClass).remove(keys, () -> deleteBatch(keys, entityClass,
+                id -> idQueryFromObject(id, entityClass), TarantoolResult::size))
+                .thenApply(BaseTarantoolTemplate::sum);
+    }
+
+    /**
+     * Delete the records by the primary key as a batch. The key conditions are built when the corresponding request
+     * is sent, the deleted tuples are passed to the result mapper as soon as the request is completed. The mappers
+     * not converting the tuples to entities save the decoding work when the removed values are not needed.
+     *
+     * @param items        batch items
+     * @param entityClass  entity class
+     * @param keyQuery     primary key conditions for a batch item
+     * @param resultMapper mapper for the deleted tuples
+     * @param <S>          batch item type
+     * @param <R>          result type
+     * @return future with the mapped results in the items order
+     */
+    protected <S, R> CompletableFuture<List<R>> deleteBatch(
+            List<? extends S> items, Class<?> entityClass, Function<? super S, Conditions> keyQuery,
+            Function<TarantoolResult<TarantoolTuple>, R> resultMapper) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        return executeBatch(items, item -> space.delete(keyQuery.apply(item)).thenApply(resultMapper));
+    }
+
+    /**
+     * Execute the asynchronous operation for each item keeping at most {@link #getMaxInFlightRequests()} operations
+     * in flight. The future is completed with {@link TarantoolBatchOperationException} if some operations fail.
+     * Each operation is invoked like {@link #executeAsync(Supplier)}, bounded by the deadline of the enclosing
+     * operation or by the default timeout shared by the batch.
+     *
+     * @param items     batch items
+     * @param operation operation to execute for each item
+     * @param <S>       batch item type
+     * @param <R>       operation result type
+     * @return future with the operation results in the items order
+     */
+    protected <S, R> CompletableFuture<List<R>> executeBatch(List<? extends S> items,
+                                                            Function<? super S, CompletableFuture<R>> operation) {
+        OperationDeadline deadline = currentDeadline();
+        Function<S, CompletableFuture<R>> boundedOperation = deadline == null ?
+                item -> executeAsync(() -> operation.apply(item)) :
+                item -> deadline.call(() -> executeAsync(() -> operation.apply(item)));
+        return new TarantoolBatchExecution<S, R>(items, boundedOperation, this::translateException)
+                .execute(maxInFlightRequests);
+    }
+
+    /**
+     * Send the read request or join the identical one in flight if the request coalescing is enabled
+     *
+     * @param request driver request
+     * @param key     operation, space or function name and the request arguments identifying the request
+     * @param <R>     response type
+     * @return future with the response
+     * @see #setRequestCoalescing(boolean)
+     */
+    protected <R> CompletableFuture<R> coalesce(Supplier<CompletableFuture<R>> request, Object... key) {
+        if (!requestCoalescing) {
+            return request.get();
+        }
+        return requestCoalescer.execute(Arrays.asList(key), request);
+    }
+
+    private CompletableFuture<TarantoolResult<TarantoolTuple>> selectCoalesced(String spaceName, Conditions query) {
+        return coalesce(() -> space(spaceName).select(query), "select", spaceName, query);
+    }
+
+    /**
+     * Return the near cache, write-behind buffer, change tracker and negative lookup filter of the entity, created
+     * once per entity class from its annotations
+     */
+    private EntityWritePolicies getWritePolicies(Class<?> entityClass) {
+        return writePolicies.computeIfAbsent(entityClass, type -> {
+            TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+            return EntityWritePolicies.of(entity, mapper, entities -> writeBuffered(entities, type),
+                    () -> getSpaceWritePolicies(entity.getSpaceName()));
+        });
+    }
+
+    /**
+     * Return the policies of the entities stored in the space, created by the operations on them so far
+     */
+    private List<EntityWritePolicies> getSpaceWritePolicies(String spaceName) {
+        return writePolicies.values().stream()
+                .filter(policies -> policies.getSpaceName().equals(spaceName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Check if the record with the identifier is definitely absent according to the negative lookup filter of the
+     * entity marked with {@link org.springframework.data.tarantool.core.mapping.TarantoolBloomFilter}. The first
+     * call starts loading the primary keys of the space into the filter, the filter is not used until they are
+     * loaded. The first call after the reload interval starts loading them again.
+     *
+     * @param id          entity identifier
+     * @param entityClass entity class
+     * @return true if the record does not need to be looked up
+     */
+    private boolean isAbsent(@Nullable Object id, Class<?> entityClass) {
+        KeyBloomFilter filter = getWritePolicies(entityClass).getKeyFilter();
+        if (filter == null || id == null) {
+            return false;
+        }
+        KeyBloomFilter.Generation generation = filter.startLoading();
+        if (generation != null) {
+            loadKeys(filter, generation, mappingContext.getRequiredPersistentEntity(entityClass));
+        }
+        return !filter.mightContain(id);
+    }
+
+    private void loadKeys(KeyBloomFilter filter, KeyBloomFilter.Generation generation,
+                          TarantoolPersistentEntity<?> entity) {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(filter.getSpaceName());
+        List<String> keyFields = primaryKeyFieldNames(filter.getSpaceName());
+        ProxySelectOptions options = keyFields == null ?
+                ProxySelectOptions.create() : ProxySelectOptions.create().withFields(keyFields);
+        loadKeyPage(filter, generation, entity, space, options, null, 0).whenComplete((value, error) -> {
+            if (error != null) {
+                filter.failed(generation, error);
+            } else {
+                filter.loaded(generation);
+            }
+        });
+    }
+
+    /**
+     * Select a page of the primary keys of the space and add them to the filter, then continue with the next page
+     */
+    private CompletableFuture<Void> loadKeyPage(
+            KeyBloomFilter filter, KeyBloomFilter.Generation generation, TarantoolPersistentEntity<?> entity,
+            TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space,
+            ProxySelectOptions options, @Nullable TarantoolTuple lastTuple, long fetched) {
+        Conditions query = nextPageQuery(space, Conditions.any(), lastTuple, fetched, fetchSize);
+        if (query == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return executeAsync(() -> space.select(query, options)).thenCompose(result -> {
+            filter.putLoaded(generation, result.stream()
+                    .map(tuple -> readKey(tuple, entity, filter.getKeyType()))
+                    .collect(Collectors.toList()));
+            if (result.size() < query.getLimit()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return loadKeyPage(filter, generation, entity, space, options, result.get(result.size() - 1),
+                    fetched + result.size());
+        });
+    }
+
+    @Nullable
+    private Object readKey(TarantoolTuple tuple, TarantoolPersistentEntity<?> entity, Class<?> keyType) {
+        TarantoolPersistentProperty idProperty = entity.getIdProperty();
+        if (entity.hasTarantoolIdClassAnnotation() || idProperty == null) {
+            return getConverter().read(keyType, tuple);
+        }
+        String fieldName = idProperty.getFieldName();
+        Object value = tuple.canGetObject(fieldName, keyType) ?
+                tuple.getObject(fieldName, keyType).orElse(null) : tuple.getObject(fieldName).orElse(null);
+        ConversionService conversionService = getConverter().getConversionService();
+        if (value != null && !keyType.isInstance(value) && conversionService.canConvert(value.getClass(), keyType)) {
+            return conversionService.convert(value, keyType);
+        }
+        return value;
+    }
+
+    /**
+     * Return the cached entity or select it and cache the found tuple. A new entity is mapped from the tuple on each
+     * call, so the callers do not share the instances.
+     *
+     * @param id          entity identifier of the type accepted by the cache
+     * @param entityClass entity class
+     * @param cache       near cache of the entity
+     * @param <T>         target entity type
+     * @return future with the entity or null if it is not found
+     */
+    private <T> CompletableFuture<T> selectByIdCached(Object id, Class<T> entityClass, NearCache cache) {
+        TarantoolTuple cached = cache.get(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(mapToEntity(cached, entityClass));
+        }
+        long version = cache.version();
+        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        return executeAsync(() -> {
+            Conditions query = idQueryFromObject(id, entityClass).withLimit(1);
+            return selectCoalesced(entity.getSpaceName(), query).thenApply(result -> {
+                TarantoolTuple tuple = result.isEmpty() ? null : result.get(0);
+                if (tuple != null) {
+                    cache.put(id, tuple, version);
+                }
+                return mapToEntity(tuple, entityClass);
+            });
+        });
+    }
+
+    /**
+     * Invoke the driver operation writing the entities and drop them from the near cache when it is completed
+     *
+     * @param entityClass entity class
+     * @param ids         identifiers of the written entities
+     * @param func        driver operation
+     * @param <R>         operation result type
+     * @return future with the operation result
+     * @see #executeAsync(Supplier)
+     */
+    protected <R> CompletableFuture<R> executeWrite(Class<?> entityClass, Supplier<List<?>> ids,
+                                                    Supplier<CompletableFuture<R>> func) {
+        return getWritePolicies(entityClass).write(ids, () -> executeAsync(func));
+    }
+
+    private <R> CompletableFuture<R> truncateAfter(String spaceName, Supplier<CompletableFuture<R>> operation) {
+        return EntityWritePolicies.truncate(getSpaceWritePolicies(spaceName), operation);
+    }
+
+    /**
+     * Return the change tracker of the entity marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolChangeTracking}. The classes unknown to the
+     * mapping context, like the results of stored functions, are not tracked.
+     */
+    @Nullable
+    private ChangeTracker getChangeTracker(Class<?> entityClass) {
+        EntityWritePolicies policies = writePolicies.get(entityClass);
+        if (policies == null) {
+            if (!mappingContext.hasPersistentEntityFor(entityClass)) {
+                return null;
+            }
+            policies = getWritePolicies(entityClass);
+        }
+        return policies.getChangeTracker();
+    }
+
+    private void forgetChanges(Class<?> entityClass, List<?> ids) {
+        ChangeTracker tracker = getChangeTracker(entityClass);
+        if (tracker != null) {
+            tracker.forget(ids);
+        }
+    }
+
+    /**
+     * Replace the record with the entity or, if the entity is marked with
+     * {@link org.springframework.data.tarantool.core.mapping.TarantoolChangeTracking} and its record is known, update
+     * only the fields which differ from the known record. If the known record is not found, it is replaced.
+     *
+     * @param entity         saved entity
+     * @param entityMetadata entity metadata
+     * @return future with the written tuple or with null if no field is changed
+     */
+    private CompletableFuture<TarantoolResult<TarantoolTuple>> replaceChanged(
+            Object entity, TarantoolPersistentEntity<?> entityMetadata) {
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                space(entityMetadata.getSpaceName());
+        TarantoolTuple tuple = mapToTuple(entity, entityMetadata);
+        ChangeTracker tracker = getChangeTracker(entityMetadata.getType());
+        Object id = tracker != null ? entityMetadata.getIdentifierAccessor(entity).getIdentifier() : null;
+        Optional<TarantoolSpaceMetadata> spaceMetadata = id != null ?
+                getSpaceMetadata(entityMetadata.getSpaceName()) : Optional.empty();
+        BitSet changed = spaceMetadata.isPresent() ?
+                tracker.changedFields(id, tuple, propertyFields(entityMetadata, spaceMetadata.get())) : null;
+        if (changed == null) {
+            return space.replace(tuple);
+        }
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<TarantoolField> fields = tuple.getFields();
+        TupleOperations updateOperations = null;
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            updateOperations = updateOperations == null ?
+                    TupleOperations.set(i, fields.get(i)) : updateOperations.andSet(i, fields.get(i));
+        }
+        return space.update(idQueryFromObject(id, entityMetadata.getType()), updateOperations)
+                .thenCompose(result -> result.isEmpty() ?
+                        space.replace(tuple) : CompletableFuture.completedFuture(result));
+    }
+
+    private static BitSet propertyFields(TarantoolPersistentEntity<?> entityMetadata,
+                                         TarantoolSpaceMetadata spaceMetadata) {
+        BitSet fields = new BitSet();
+        for (TarantoolPersistentProperty property : entityMetadata) {
+            String fieldName = property.getFieldName();
+            if (spaceMetadata.getFieldByName(fieldName).isPresent()) {
+                fields.set(spaceMetadata.getFieldPositionByName(fieldName));
+            }
+        }
+        return fields;
+    }
+
+    private List<?> entityIds(List<?> entities, Class<?> entityClass) {
+        return entityIds(entities, mappingContext.getRequiredPersistentEntity(entityClass));
+    }
+
+    private static List<?> entityIds(List<?> entities, TarantoolPersistentEntity<?> entityMetadata) {
+        return entities.stream()
+                .map(entity -> entityMetadata.getIdentifierAccessor(entity).getIdentifier())
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<T> toList(Iterable<T> items) {
+        List<T> result = new ArrayList<>();
+        items.forEach(result::add);
+        return result;
+    }
+
+    private static <T> List<T> withoutNulls(List<T> items) {
+        return items.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private static long firstAsLong(List<?> result) {
+        return ((Number) result.get(0)).longValue();
+    }
+
+    private static long sum(List<Integer> counts) {
+        return counts.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    protected TupleOperations setNonNullFieldsFromTuple(TarantoolTuple tuple) {
+        final AtomicReference<TupleOperations> result = new AtomicReference<>();
+        TupleOperations.fromTarantoolTuple(tuple).asList()
+                .stream().filter(o -> !(o.getValue() instanceof io.tarantool.driver.api.tuple.TarantoolNullField))
+                .forEach(op -> {
+                    if (result.get() == null) {
+                        result.set(TupleOperations.set(op.getFieldIndex(), op.getValue()));
+                    } else {
+                        result.get().addOperation(op);
+                    }
+                });
+        return result.get();
+    }
+
+    @Nullable
+    protected <T> T removeInternal(Conditions query, Supplier<List<?>> ids, Class<T> entityClass) {
+        TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+        TarantoolResult<TarantoolTuple> result = getFutureValue(() -> getWritePolicies(entityClass).remove(ids.get(),
+                () -> executeAsync(() -> space(entityMetadata.getSpaceName()).delete(query))
+        ));
+        return mapRemovedToEntity(result, entityClass);
+    }
+
+    /**
+     * Return the operations of the space. The operations are resolved once per schema version.
+     *
+     * @param spaceName space name
+     * @return space operations
+     */
+    protected TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space(String spaceName) {
+        return spaceMetadataCache.getSpace(spaceName);
+    }
+
+    /**
+     * Return the metadata of the space. The metadata is resolved once per schema version.
+     *
+     * @param spaceName space name
+     * @return space metadata or empty if the space is unknown
+     */
+    protected Optional<TarantoolSpaceMetadata> getSpaceMetadata(String spaceName) {
+        return spaceMetadataCache.getSpaceMetadata(spaceName);
+    }
+
+    protected <T> TarantoolTuple mapToTuple(T entity, TarantoolPersistentEntity<?> entityMetadata) {
+        Optional<TarantoolSpaceMetadata> spaceMetadata = getSpaceMetadata(entityMetadata.getSpaceName());
+        TarantoolTuple tuple = spaceMetadata.isPresent() ?
+                new TarantoolTupleImpl(getMessagePackMapper(), spaceMetadata.get()) :
+                new TarantoolTupleImpl(getMessagePackMapper());
+        getConverter().write(entity, tuple);
+        return tuple;
+    }
+
+    /**
+     * Build the conditions for selecting the next page of the query results. The spaces accessed via the proxy API
+     * are paged by the last tuple of the previous page. The full scans of the other spaces are continued after the
+     * primary key of the last tuple, the other queries are paged by offset like the driver cursors do.
+     *
+     * @param space     target space operations
+     * @param query     original query conditions
+     * @param lastTuple the last tuple of the previous page or null for the first page
+     * @param fetched   number of tuples fetched so far
+     * @param pageSize  maximum number of tuples in a page
+     * @return conditions for the next page or null if the query limit is already reached
+     */
+    @Nullable
+    protected Conditions nextPageQuery(TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space,
+                                       Conditions query, @Nullable TarantoolTuple lastTuple, long fetched,
+                                       int pageSize) {
+        long remaining = query.getLimit() - fetched;
+        if (remaining <= 0) {
+            return null;
+        }
+        Conditions pageQuery = new Conditions(query).withLimit(Math.min(remaining, pageSize));
+        if (lastTuple == null) {
+            return pageQuery;
+        }
+        if (space instanceof ProxyTarantoolSpace) {
+            return pageQuery.withOffset(0).startAfter(lastTuple);
+        }
+        Conditions keyQuery = afterPrimaryKeyQuery(space, query, lastTuple);
+        if (keyQuery != null) {
+            return keyQuery.withLimit(pageQuery.getLimit());
+        }
+        return pageQuery.withOffset(query.getOffset() + fetched);
+    }
+
+    @Nullable
+    private Conditions afterPrimaryKeyQuery(
+            TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space,
+            Conditions query, TarantoolTuple lastTuple) {
+        if (!isFullScan(query)) {
+            return null;
+        }
+        IndexScan primaryScan = IndexScan.primary(tarantoolClient.metadata(), space.getMetadata().getSpaceName());
+        return primaryScan == null ? null : primaryScan.after(lastTuple);
+    }
+
+    protected <R> R executeSync(Supplier<CompletableFuture<R>> func) {
+        return getFutureValue(() -> executeAsync(func));
+    }
+
+    /**
+     * Start the operation and wait for its result. The deadline of the enclosing operation, or a new one if the
+     * default timeout is set, is bound to the calling thread for the whole operation, so all its requests share it
+     * and the result is awaited until it expires.
+     *
+     * @param operation operation returning the future of its result
+     * @param <R>       operation result type
+     * @return operation result
+     */
+    protected <R> R getFutureValue(Supplier<? extends Future<R>> operation) {
+        return callWithDeadline(() -> getFutureValue(operation.get()));
+    }
+
+    private <R> R callWithDeadline(Supplier<R> operation) {
+        OperationDeadline deadline = currentDeadline();
+        return deadline != null ? deadline.call(operation) : operation.get();
+    }
+
+    /**
+     * Invoke the driver operation and translate the errors it completes with. The translation is applied in the
+     * future chain, so the returned future is completed exceptionally with a {@link DataAccessException}. The errors
+     * thrown by the operation before returning its future complete the returned future the same way.
+     * <p>
+     * The operation is bounded by the deadline of the enclosing operation or by the default timeout. The request is
+     * cancelled at the deadline and the future is completed with {@link QueryTimeoutException}. The future is
+     * completed with the deadline bound to the completing thread, so the subsequent requests of a composite operation
+     * share it.
+     *
+     * @param func driver operation
+     * @param <R>  operation result type
+     * @return future with the operation result
+     */
+    protected <R> CompletableFuture<R> executeAsync(Supplier<CompletableFuture<R>> func) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        OperationDeadline deadline = currentDeadline();
+        if (deadline == null) {
+            CompletableFuture<R> future;
+            try {
+                future = func.get();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(translateException(e));
+                return result;
+            }
+            future.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(translateException(error));
+                } else {
+                    result.complete(value);
+                }
+            });
+            return result;
+        }
+        if (deadline.isExpired()) {
+            result.completeExceptionally(deadline.timeoutException());
+            return result;
+        }
+        CompletableFuture<R> future;
+        try {
+            future = deadline.call(func);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(translateException(e, deadline));
+            return result;
+        }
+        deadline.track(future).whenComplete((value, error) -> deadline.run(() -> {
+            if (error != null) {
+                result.completeExceptionally(translateException(error, deadline));
+            } else {
+                result.complete(value);
+            }
+        }));
+        return result;
+    }
 
     protected <R> R getFutureValue(Future<R> future) {
+        OperationDeadline deadline = OperationDeadline.current();
         try {
-            return future.get();
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof RuntimeException) {
-                DataAccessException wrapped = exceptionTranslator
-                        .translateExceptionIfPossible((RuntimeException) e.getCause());
-                if (wrapped != null) {
-                    throw wrapped;
-                }
+            if (deadline == null) {
+                return future.get();
             }
-            throw new DataRetrievalFailureException(e.getMessage(), e.getCause());
+            return future.get(Math.max(deadline.remainingNanos(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw deadline.timeoutException();
+        } catch (CancellationException e) {
+            throw deadline != null && deadline.isExpired() ? deadline.timeoutException() : e;
+        } catch (ExecutionException e) {
+            throw translateException(e.getCause());
         } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            Thread.currentThread().interrupt();
+            throw translateException(e);
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Return the deadline of the enclosing operation or start a new one if the default timeout is set
+     *
+     * @return operation deadline or null if the operation is not bounded
+     */
+    @Nullable
+    private OperationDeadline currentDeadline() {
+        OperationDeadline deadline = OperationDeadline.current();
+        Duration timeout = defaultTimeout;
+        if (deadline == null && timeout != null) {
+            deadline = OperationDeadline.after(timeout);
+        }
+        return deadline;
+    }
+
+    private RuntimeException translateException(Throwable error, OperationDeadline deadline) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException && deadline.isExpired()) {
+            return deadline.timeoutException();
+        }
+        return translateException(cause);
+    }
+
+    protected RuntimeException translateException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (isSchemaMismatch(cause)) {
+            tarantoolClient.metadata().scheduleRefresh();
+            invalidateMetadata();
+        }
+        if (cause instanceof DataAccessException) {
+            return (DataAccessException) cause;
+        }
+        if (cause instanceof TimeoutException) {
+            return new QueryTimeoutException(cause.getMessage(), cause);
+        }
+        if (cause instanceof RuntimeException) {
+            DataAccessException wrapped = exceptionTranslator.translateExceptionIfPossible((RuntimeException) cause);
+            if (wrapped != null) {
+                return wrapped;
+            }
+        }
+        return new DataRetrievalFailureException(cause.getMessage(), cause);
+    }
+
+    private static boolean isSchemaMismatch(Throwable error) {
+        return error instanceof TarantoolSpaceNotFoundException ||
+                error instanceof TarantoolSpaceFieldNotFoundException ||
+                error instanceof TarantoolIndexNotFoundException ||
+                error instanceof TarantoolFieldNotFoundException ||
+                error instanceof TarantoolMetadataMissingException;
+    }
+
     protected <T, R extends List<T>> Supplier<CompletableFuture<R>> getResultSupplier(
             String functionName,
             List<?> parameters,
             String spaceName,
             Class<T> entityClass) {
-        return () -> tarantoolClient.call(functionName,
-                mapParameters(parameters),
-                getMessagePackMapper(),
-                getResultMapperForEntity(spaceName, entityClass))
-                .thenApply(result -> result == null ? null : (R) result.stream()
-                        .map(t -> mapToEntity(t, entityClass))
-                        .collect(Collectors.toList())
-                );
+        return getResultSupplier(functionName, parameters, spaceName, entityClass, t -> mapToEntity(t, entityClass));
+    }
+
+    /**
+     * Return the supplier of the function call returning the tuples of the entity space mapped to the projections.
+     * The projections are read straight from the tuples, without instantiating the entities.
+     *
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param spaceName    space name in Tarantool instance, the entity space is used if it is empty
+     * @param entityClass  entity class
+     * @param resultType   projection interface or DTO class
+     * @param <T>          entity type
+     * @param <P>          projection type
+     * @param <R>          result type
+     * @return function call supplier
+     */
+    protected <T, P, R extends List<P>> Supplier<CompletableFuture<R>> getProjectionResultSupplier(
+            String functionName,
+            List<?> parameters,
+            String spaceName,
+            Class<T> entityClass,
+            Class<P> resultType) {
+        ProjectionReader<P> reader = getProjectionReader(entityClass, resultType);
+        return getResultSupplier(functionName, parameters, spaceName, entityClass, reader::read);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, P, R extends List<P>> Supplier<CompletableFuture<R>> getResultSupplier(
+            String functionName,
+            List<?> parameters,
+            String spaceName,
+            Class<T> entityClass,
+            Function<TarantoolTuple, P> tupleReader) {
+        return () -> {
+            List<?> arguments = mapParameters(parameters);
+            CallResultMapper<TarantoolTupleResult, SingleValueCallResult<TarantoolTupleResult>> resultMapper =
+                    getResultMapperForEntity(spaceName, entityClass);
+            return decode(coalesce(() -> tarantoolClient.call(functionName, arguments, getMessagePackMapper(),
+                            resultMapper), functionName, arguments, resultMapper),
+                    result -> result == null ? null : (R) result.stream()
+                            .map(tupleReader)
+                            .collect(Collectors.toList())
+            );
+        };
     }
 
     @SuppressWarnings("unchecked")
@@ -339,21 +1988,18 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
             List<?> parameters,
             MessagePackObjectMapper parameterMapper,
             ValueConverter<Value, T> contentConverter) {
-        ValueConverter<Value, R> converter = v -> v.isNilValue() ? null
-                : (R) v.asArrayValue().list().stream()
-                .map(contentConverter::fromValue)
-                .collect(Collectors.toList());
+        ValueConverter<Value, List<Value>> converter = v -> v.isNilValue() ? null : v.asArrayValue().list();
 
-        return () -> tarantoolClient.callForSingleResult(
-                functionName, mapParameters(parameters), parameterMapper, converter
+        return () -> decode(tarantoolClient.callForSingleResult(
+                        functionName, mapParameters(parameters), parameterMapper, converter),
+                values -> values == null ? null : (R) values.stream()
+                        .map(contentConverter::fromValue)
+                        .collect(Collectors.toList())
         );
     }
 
-    protected <T> ValueConverter<Value, List<T>> getListValueConverter(Class<T> entityClass) {
-        return result -> result == null ? null
-                : result.asArrayValue().list().stream()
-                .map(v -> mapToEntity(mapper.fromValue(v, Map.class), entityClass))
-                .collect(Collectors.toList());
+    protected <T> ValueConverter<Value, T> getMapValueConverter(Class<T> entityClass) {
+        return value -> mapToEntity(mapper.fromValue(value, Map.class), entityClass);
     }
 
     protected <T> CallResultMapper<TarantoolTupleResult,
@@ -361,20 +2007,37 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
     getResultMapperForEntity(String spaceName, Class<T> entityClass) {
         TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
         String name = StringUtils.hasText(spaceName) ? spaceName : entityMetadata.getSpaceName();
-        Optional<TarantoolSpaceMetadata> spaceMetadata = tarantoolClient.metadata()
-                .getSpaceByName(name);
+        Optional<TarantoolSpaceMetadata> spaceMetadata = getSpaceMetadata(name);
         if (!spaceMetadata.isPresent() && !entityClass.equals(void.class)) {
             throw new TarantoolMetadataMissingException(name);
         }
 
-        return mapperFactoryFactory.createMapper(mapper)
-                .buildSingleValueResultMapper(
-                        mapperFactoryFactory.createMapper(mapper, spaceMetadata.orElse(null))
-                                .withArrayValueToTarantoolTupleResultConverter()
-                                .withRowsMetadataToTarantoolTupleResultConverter()
-                                .buildCallResultMapper(
-                                        DefaultMessagePackMapperFactory.getInstance().emptyMapper()),
-                        TarantoolTupleResult.class);
+        return getResultMapper(spaceMetadata.orElse(null), TarantoolTupleResult.class, TarantoolSerializationType.TUPLE,
+                () -> mapperFactoryFactory.createMapper(mapper)
+                        .buildSingleValueResultMapper(
+                                mapperFactoryFactory.createMapper(mapper, spaceMetadata.orElse(null))
+                                        .withArrayValueToTarantoolTupleResultConverter()
+                                        .withRowsMetadataToTarantoolTupleResultConverter()
+                                        .buildCallResultMapper(
+                                                DefaultMessagePackMapperFactory.getInstance().emptyMapper()),
+                                TarantoolTupleResult.class));
+    }
+
+    /**
+     * Return the cached result mapper for the space metadata, the target type and the serialization type or build
+     * a new one
+     *
+     * @param spaceMetadata     space metadata, may be null
+     * @param targetType        target type of the mapper result
+     * @param serializationType expected result structure
+     * @param factory           mapper factory
+     * @param <M>               mapper type
+     * @return result mapper
+     */
+    protected <M extends CallResultMapper<?, ?>> M getResultMapper(
+            @Nullable TarantoolSpaceMetadata spaceMetadata, Class<?> targetType,
+            TarantoolSerializationType serializationType, Supplier<M> factory) {
+        return resultMapperCache.get(spaceMetadata, targetType, serializationType, factory);
     }
 
     protected <T> T mapFirstToEntity(TarantoolResult<TarantoolTuple> tuples, Class<T> entityClass) {
@@ -384,8 +2047,71 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
                 entityClass);
     }
 
+    /**
+     * Convert the result of a Tarantool request with the {@link TarantoolExecutionStrategy} of the template, so the
+     * conversion is not done on the network threads of the client. The results with less than
+     * {@link #getInlineDecodeThreshold()} elements are converted in the completing thread, saving the thread switch.
+     *
+     * @param result  future with the request result
+     * @param decoder result conversion
+     * @param <S>     request result type
+     * @param <R>     converted result type
+     * @return future with the converted result
+     */
+    protected <S, R> CompletableFuture<R> decode(CompletableFuture<S> result,
+                                                 Function<? super S, ? extends R> decoder) {
+        return result.thenCompose(value -> {
+            if (resultSize(value) < inlineDecodeThreshold) {
+                return CompletableFuture.completedFuture(decoder.apply(value));
+            }
+            return CompletableFuture.supplyAsync(() -> decoder.apply(value), executionStrategy);
+        });
+    }
+
+    private static int resultSize(@Nullable Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        return value == null ? 0 : 1;
+    }
+
+    protected <T> List<T> mapToEntities(TarantoolResult<TarantoolTuple> tuples, Class<T> entityClass) {
+        return tuples.stream().map(t -> mapToEntity(t, entityClass)).collect(Collectors.toList());
+    }
+
     protected <T> T mapToEntity(@Nullable Object tuple, Class<T> entityClass) {
-        return getConverter().read(entityClass, tuple);
+        T entity = getConverter().read(entityClass, tuple);
+        ChangeTracker tracker = entity != null && tuple instanceof TarantoolTuple ?
+                getChangeTracker(entityClass) : null;
+        if (tracker != null) {
+            Object id = entityId(entity, entityClass);
+            if (id != null) {
+                tracker.snapshot(id, (TarantoolTuple) tuple);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Map the tuple removed by the request to the entity. The record is forgotten by the change tracking, so saving
+     * the removed entity inserts it again.
+     *
+     * @param tuples      removed tuples
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return removed entity or null if nothing is removed
+     */
+    protected <T> T mapRemovedToEntity(TarantoolResult<TarantoolTuple> tuples, Class<T> entityClass) {
+        T entity = getConverter().read(entityClass, tuples.stream().findFirst().orElse(null));
+        if (entity != null && getChangeTracker(entityClass) != null) {
+            forgetChanges(entityClass, Collections.singletonList(entityId(entity, entityClass)));
+        }
+        return entity;
+    }
+
+    @Nullable
+    private Object entityId(Object entity, Class<?> entityClass) {
+        return mappingContext.getRequiredPersistentEntity(entityClass).getIdentifierAccessor(entity).getIdentifier();
     }
 
     protected Conditions createIndexEqualsConditionFromParts(List<?> indexPartValues) {
@@ -402,4 +2128,219 @@ abstract class BaseTarantoolTemplate implements TarantoolOperations {
     protected MessagePackMapper getMessagePackMapper() {
         return tarantoolClient.getConfig().getMessagePackMapper();
     }
+
+    /**
+     * Base implementation of non-blocking CRUD operations sharing the state of the enclosing template
+     */
+    protected abstract class BaseAsyncOperations implements TarantoolAsyncOperations {
+
+        @Override
+        public <T> CompletableFuture<List<T>> find(Conditions query, Class<T> entityClass) {
+            Assert.notNull(query, "Query must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+            return executeAsync(() -> decode(space(entity.getSpaceName()).select(query),
+                    result -> mapToEntities(result, entityClass))
+            );
+        }
+
+        @Override
+        public <T, R> CompletableFuture<List<R>> find(Conditions query, Class<T> entityClass, Class<R> resultType) {
+            return selectProjections(query, entityClass, resultType);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> findOne(Conditions query, Class<T> entityClass) {
+            Assert.notNull(query, "Query must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+            return executeAsync(() -> space(entity.getSpaceName()).select(query)
+                    .thenApply(result -> mapFirstToEntity(result, entityClass))
+            );
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<T> findById(ID id, Class<T> entityClass) {
+            Assert.notNull(id, "Id must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+            if (isAbsent(id, entityClass)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            NearCache cache = getWritePolicies(entityClass).getNearCache();
+            if (cache != null && cache.accepts(id)) {
+                return selectByIdCached(id, entityClass, cache);
+            }
+            return executeAsync(() -> {
+                Conditions query = idQueryFromObject(id, entityClass).withLimit(1);
+                return selectCoalesced(entity.getSpaceName(), query)
+                        .thenApply(result -> mapFirstToEntity(result, entityClass));
+            });
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<Map<ID, T>> findAllById(Collection<ID> ids, Class<T> entityClass) {
+            return selectAllById(ids, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> findAll(Class<T> entityClass) {
+            return find(Conditions.any(), entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> findAll(Sort sort, Class<T> entityClass) {
+            return selectSorted(sort, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Slice<T>> findAll(Pageable pageable, Class<T> entityClass) {
+            return selectSlice(Conditions.any(), pageable, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Slice<T>> find(Conditions query, Pageable pageable, Class<T> entityClass) {
+            return selectSlice(query, pageable, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Long> count(Conditions query, Class<T> entityClass) {
+            return countAsync(query, entityClass);
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<Boolean> existsById(ID id, Class<T> entityClass) {
+            return existsByIdAsync(id, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Boolean> exists(Conditions query, Class<T> entityClass) {
+            return existsAsync(query, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> findAndRemove(Conditions query, Class<T> entityClass) {
+            return selectAndRemove(query, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> insert(T entity, Class<T> entityClass) {
+            Assert.notNull(entity, "Entity must not be null!");
+            Assert.notNull(entityClass, "Type must not be null!");
+
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            return executeWrite(entityClass, () -> entityIds(Collections.singletonList(entity), entityMetadata),
+                    () -> space(entityMetadata.getSpaceName())
+                            .insert(mapToTuple(entity, entityMetadata))
+                            .thenApply(result -> mapFirstToEntity(result, entityClass))
+            );
+        }
+
+        @Override
+        public <T> CompletableFuture<T> save(T entity, Class<T> entityClass) {
+            Assert.notNull(entity, "Entity must not be null!");
+            Assert.notNull(entityClass, "Type must not be null!");
+
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            return getWritePolicies(entityClass).save(entity, () -> executeAsync(() ->
+                    replaceChanged(entity, entityMetadata)
+                            .thenApply(result -> result != null ? mapFirstToEntity(result, entityClass) : entity)
+            )).thenApply(result -> result != null ? result : entity);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> insertAll(Iterable<T> entities, Class<T> entityClass) {
+            return writeAll(entities, entityClass, TarantoolSpaceOperations::insert);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Class<T> entityClass) {
+            return writeAll(entities, entityClass, TarantoolSpaceOperations::replace);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> update(Conditions query, T entity, Class<T> entityClass) {
+            Assert.notNull(query, "Conditions must not be null!");
+            Assert.notNull(entity, "Entity must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            TupleOperations updateOperations = setNonNullFieldsFromTuple(mapToTuple(entity, entityMetadata));
+            return updateAsync(query, updateOperations, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Long> updateAll(Conditions query, T entity, Class<T> entityClass) {
+            Assert.notNull(entity, "Entity must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            TupleOperations updateOperations = setNonNullFieldsFromTuple(mapToTuple(entity, entityMetadata));
+            return updateCountAsync(query, updateOperations, entityClass);
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<T> updateById(ID id, TarantoolUpdate update, Class<T> entityClass) {
+            return updateByIdAsync(id, update, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Void> upsert(T entity, TarantoolUpdate update, Class<T> entityClass) {
+            return upsertAsync(entity, update, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> remove(T entity, Class<T> entityClass) {
+            Assert.notNull(entity, "Entity must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            return removeAsync(idQueryFromEntity(entity),
+                    () -> entityIds(Collections.singletonList(entity), entityMetadata), entityClass);
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<T> removeById(ID id, Class<T> entityClass) {
+            Assert.notNull(id, "ID must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return removeAsync(idQueryFromObject(id, entityClass), () -> Collections.singletonList(id), entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> removeAll(Iterable<T> entities, Class<T> entityClass) {
+            return removeAllEntities(entities, entityClass);
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<List<T>> removeAllById(Collection<ID> ids, Class<T> entityClass) {
+            return removeAllEntitiesById(ids, entityClass);
+        }
+
+        @Override
+        public <T> CompletableFuture<Long> deleteAll(Iterable<T> entities, Class<T> entityClass) {
+            return deleteAllEntities(entities, entityClass);
+        }
+
+        @Override
+        public <T, ID> CompletableFuture<Long> deleteAllById(Collection<ID> ids, Class<T> entityClass) {
+            return deleteAllEntitiesById(ids, entityClass);
+        }
+
+        @Override
+        public CompletableFuture<Void> truncate(String spaceName) {
+            return truncateAfter(spaceName, () -> executeAsync(() -> space(spaceName).truncate()));
+        }
+
+        private <T> CompletableFuture<T> removeAsync(Conditions query, Supplier<List<?>> ids, Class<T> entityClass) {
+            TarantoolPersistentEntity<?> entityMetadata = mappingContext.getRequiredPersistentEntity(entityClass);
+            return getWritePolicies(entityClass).remove(ids.get(), () -> executeAsync(() ->
+                    space(entityMetadata.getSpaceName()).delete(query)
+                            .thenApply(result -> mapRemovedToEntity(result, entityClass))
+            ));
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package org.springframework.data.tarantool.core;
+
+/**
+ * Lua functions updating all tuples matching a query in one request. The functions return the updated tuples or
+ * only their number depending on the last argument, and return nil if the helper cannot run on the instance.
+ * <p>
+ * The functions are called by name. If a function is not defined on the instance yet, the corresponding
+ * registration script is evaluated instead: it defines the global function and calls it with the same arguments, so
+ * the source is compiled once per instance.
+ */
+final class BulkUpdateScripts {
+
+    /**
+     * Name of the function updating the tuples of a space accessed via the proxy API
+     */
+    static final String CRUD_UPDATE_FUNCTION = "__spring_data_tarantool_crud_update_v2";
+
+    /**
+     * Update the tuples of a space accessed via the proxy API. The tuples are selected with the crud module on the
+     * router page by page, only the primary keys and the bucket ids of the matching tuples are kept. The tuples are
+     * updated by the keys after the selection, one crud request per tuple, so the update is not atomic: if a request
+     * fails, the error is raised and the tuples updated before stay updated.
+     */
+    static final String CRUD_UPDATE_SCRIPT = String.join("\n",
+            "local space, conditions, key_fields, operations, offset, first, page_size, return_tuples = ...",
+            "local ok, crud = pcall(require, 'crud')",
+            "if not ok then return nil end",
+            "local keys, buckets, visited, after = {}, {}, 0, nil",
+            "local bucket_field",
+            "while first == nil or visited < first do",
+            "    local limit = page_size",
+            "    if first ~= nil and first - visited < limit then limit = first - visited end",
+            "    local selected, err = crud.select(space, conditions, {first = limit, after = after})",
+            "    if err ~= nil then error(err) end",
+            "    if bucket_field == nil then",
+            "        for i, field in ipairs(selected.metadata) do",
+            "            if field.name == 'bucket_id' then bucket_field = i end",
+            "        end",
+            "    end",
+            "    for _, row in ipairs(selected.rows) do",
+            "        visited = visited + 1",
+            "        if visited > offset then",
+            "            local key = {}",
+            "            for j, fieldno in ipairs(key_fields) do key[j] = row[fieldno] end",
+            "            table.insert(keys, key)",
+            "            if bucket_field ~= nil then buckets[#keys] = row[bucket_field] end",
+            "        end",
+            "    end",
+            "    if #selected.rows < limit then break end",
+            "    after = selected.rows[#selected.rows]",
+            "end",
+            "local updated = {}",
+            "for i, key in ipairs(keys) do",
+            "    local result, update_err = crud.update(space, key, operations, {bucket_id = buckets[i]})",
+            "    if update_err ~= nil then error(update_err) end",
+            "    if return_tuples and result.rows[1] ~= nil then table.insert(updated, result.rows[1]) end",
+            "end",
+            "if return_tuples then return updated end",
+            "return #keys");
+
+    /**
+     * Name of the function updating the tuples of a space on the instance
+     */
+    static final String BOX_UPDATE_FUNCTION = "__spring_data_tarantool_box_update_v1";
+
+    /**
+     * Update the tuples of a space on the instance. The tuples are selected by the index query and updated by the
+     * primary key in one transaction.
+     */
+    static final String BOX_UPDATE_SCRIPT = String.join("\n",
+            "local space, index, key, iterator, offset, limit, operations, return_tuples = ...",
+            "local s = box.space[space]",
+            "local pk = s.index[0]",
+            "local keys, skipped = {}, 0",
+            "for _, tuple in s.index[index]:pairs(key, {iterator = iterator}) do",
+            "    if #keys >= limit then break end",
+            "    if skipped < offset then",
+            "        skipped = skipped + 1",
+            "    else",
+            "        local k = {}",
+            "        for i, part in ipairs(pk.parts) do k[i] = tuple[part.fieldno] end",
+            "        table.insert(keys, k)",
+            "    end",
+            "end",
+            "local updated = {}",
+            "box.begin()",
+            "local ok, err = pcall(function()",
+            "    for _, k in ipairs(keys) do",
+            "        local tuple = s:update(k, operations)",
+            "        if return_tuples and tuple ~= nil then table.insert(updated, tuple) end",
+            "    end",
+            "end)",
+            "if not ok then",
+            "    box.rollback()",
+            "    error(err)",
+            "end",
+            "box.commit()",
+            "if return_tuples then return updated end",
+            "return #keys");
+
+    static final String CRUD_UPDATE_REGISTRATION = registration(CRUD_UPDATE_FUNCTION, CRUD_UPDATE_SCRIPT);
+
+    static final String BOX_UPDATE_REGISTRATION = registration(BOX_UPDATE_FUNCTION, BOX_UPDATE_SCRIPT);
+
+    private BulkUpdateScripts() {
+    }
+
+    private static String registration(String functionName, String script) {
+        return String.join("\n",
+                "local f = function(...)",
+                script,
+                "end",
+                "rawset(_G, '" + functionName + "', f)",
+                "return f(...)");
+    }
+}
@@ -0,0 +1,141 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ValueFactory;
+import org.springframework.data.tarantool.core.mapping.TarantoolChangeTracking;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU map of the field hashes of the records known to the template, by entity id. A field is hashed
+ * with 64-bit FNV-1a over its MessagePack representation, so the snapshot of a record takes 8 bytes per field and
+ * a changed field is missed only on a hash collision. The fields with different representations of the same value,
+ * e.g. the maps with a different key order, are considered changed, which only costs sending them.
+ */
+final class ChangeTracker {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String spaceName;
+    private final int maxSize;
+    private final MessagePackObjectMapper mapper;
+    private final Map<Object, long[]> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    ChangeTracker(String spaceName, int maxSize, MessagePackObjectMapper mapper) {
+        this.spaceName = spaceName;
+        this.maxSize = maxSize;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Create the tracker for the entity marked with {@link TarantoolChangeTracking}
+     *
+     * @param entity persistent entity
+     * @param mapper mapper for converting the tuple fields to MessagePack
+     * @return new tracker or null if the entity is not tracked
+     */
+    @Nullable
+    static ChangeTracker of(TarantoolPersistentEntity<?> entity, MessagePackObjectMapper mapper) {
+        TarantoolChangeTracking tracking = entity.findAnnotation(TarantoolChangeTracking.class);
+        if (tracking == null || tracking.maxSize() <= 0 || entity.getIdProperty() == null) {
+            return null;
+        }
+        return new ChangeTracker(entity.getSpaceName(), tracking.maxSize(), mapper);
+    }
+
+    String getSpaceName() {
+        return spaceName;
+    }
+
+    /**
+     * Remember the fields of the record read or written by the template
+     *
+     * @param id    entity id
+     * @param tuple record tuple
+     */
+    void snapshot(Object id, TarantoolTuple tuple) {
+        long[] hashes = hash(tuple);
+        synchronized (this) {
+            snapshots.put(id, hashes);
+            if (snapshots.size() > maxSize) {
+                snapshots.remove(snapshots.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Compare the tuple of the saved entity with the known record
+     *
+     * @param id     entity id
+     * @param tuple  tuple of the saved entity
+     * @param fields positions of the fields mapped to the entity properties
+     * @return positions of the changed fields or null if the record is not known or has a different number of fields
+     */
+    @Nullable
+    BitSet changedFields(Object id, TarantoolTuple tuple, BitSet fields) {
+        long[] known;
+        synchronized (this) {
+            known = snapshots.get(id);
+        }
+        if (known == null) {
+            return null;
+        }
+        long[] current = hash(tuple);
+        if (current.length != known.length) {
+            return null;
+        }
+        BitSet changed = new BitSet(current.length);
+        for (int i = fields.nextSetBit(0); i >= 0 && i < current.length; i = fields.nextSetBit(i + 1)) {
+            if (current[i] != known[i]) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    synchronized void forget(Collection<?> ids) {
+        snapshots.keySet().removeAll(ids);
+    }
+
+    synchronized void forgetAll() {
+        snapshots.clear();
+    }
+
+    private long[] hash(TarantoolTuple tuple) {
+        List<TarantoolField> fields = tuple.getFields();
+        long[] hashes = new long[fields.size()];
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        try {
+            for (int i = 0; i < hashes.length; i++) {
+                TarantoolField field = fields.get(i);
+                packer.clear();
+                (field != null ? field.toMessagePackValue(mapper) : ValueFactory.newNil()).writeTo(packer);
+                hashes[i] = hash(packer.toByteArray());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize tuple fields", e);
+        }
+        return hashes;
+    }
+
+    private static long hash(byte[] bytes) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
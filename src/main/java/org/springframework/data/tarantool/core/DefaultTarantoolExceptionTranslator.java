@@ -4,9 +4,11 @@ import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolException;
 import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
 import io.tarantool.driver.exceptions.TarantoolInternalException;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.dao.RecoverableDataAccessException;
 
 /**
@@ -19,6 +21,9 @@ public class DefaultTarantoolExceptionTranslator implements TarantoolExceptionTr
     @Override
     public DataAccessException translateExceptionIfPossible(RuntimeException cause) {
         if (cause instanceof TarantoolException) {
+            if (cause instanceof TarantoolTimeoutException) {
+                return new QueryTimeoutException(cause.getMessage(), cause);
+            }
             // TODO Superclass in driver for metadata exceptions
             if (cause instanceof TarantoolClientException || cause instanceof TarantoolFunctionCallException) {
                 return new InvalidDataAccessResourceUsageException(cause.getMessage(), cause);
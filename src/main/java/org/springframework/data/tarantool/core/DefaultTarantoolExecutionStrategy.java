@@ -0,0 +1,75 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TarantoolExecutionStrategy} counting the tasks passed to an executor service. The tasks are executed in the
+ * calling thread if there is no executor service.
+ */
+final class DefaultTarantoolExecutionStrategy implements TarantoolExecutionStrategy {
+
+    @Nullable
+    private final ExecutorService executorService;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+
+    DefaultTarantoolExecutionStrategy(@Nullable ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (executorService == null) {
+            run(command);
+            return;
+        }
+        queued.incrementAndGet();
+        try {
+            executorService.execute(() -> {
+                queued.decrementAndGet();
+                run(command);
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void run(Runnable command) {
+        active.incrementAndGet();
+        try {
+            command.run();
+        } finally {
+            completed.incrementAndGet();
+            active.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    @Override
+    public int getActiveWorkers() {
+        return active.get();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return completed.get();
+    }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
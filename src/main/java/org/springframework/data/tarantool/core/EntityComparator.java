@@ -0,0 +1,71 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Comparator of entities by the properties of a {@link Sort}, used for ordering the records on the client side when
+ * no index of the space provides the requested order. Nulls go first in the ascending order as in a Tarantool index,
+ * unless the order specifies the null handling explicitly.
+ */
+final class EntityComparator implements Comparator<Object> {
+
+    private final TarantoolPersistentEntity<?> entity;
+    private final List<TarantoolPersistentProperty> properties = new ArrayList<>();
+    private final List<Sort.Order> orders = new ArrayList<>();
+
+    EntityComparator(TarantoolPersistentEntity<?> entity, Sort sort) {
+        this.entity = entity;
+        for (Sort.Order order : sort) {
+            properties.add(entity.getRequiredPersistentProperty(order.getProperty()));
+            orders.add(order);
+        }
+    }
+
+    @Override
+    public int compare(Object left, Object right) {
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Object leftValue = entity.getPropertyAccessor(left).getProperty(properties.get(i));
+            Object rightValue = entity.getPropertyAccessor(right).getProperty(properties.get(i));
+            int result = compareValues(leftValue, rightValue, order);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object left, Object right, Sort.Order order) {
+        if (left == null || right == null) {
+            if (left == right) {
+                return 0;
+            }
+            boolean nullsFirst;
+            switch (order.getNullHandling()) {
+                case NULLS_FIRST:
+                    nullsFirst = true;
+                    break;
+                case NULLS_LAST:
+                    nullsFirst = false;
+                    break;
+                default:
+                    nullsFirst = order.isAscending();
+            }
+            return (left == null) == nullsFirst ? -1 : 1;
+        }
+        int result;
+        if (order.isIgnoreCase() && left instanceof String && right instanceof String) {
+            result = String.CASE_INSENSITIVE_ORDER.compare((String) left, (String) right);
+        } else {
+            result = ((Comparable) left).compareTo(right);
+        }
+        return order.isAscending() ? result : -result;
+    }
+}
@@ -0,0 +1,297 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-entity policies applied by the template around the writes: the near cache, the write-behind buffer, the change
+ * tracker and the negative lookup filter, each of them enabled by the entity annotation. Each write path of the
+ * template calls one hook, which orders the write after the buffered entities, drops the written records from the
+ * near caches and adds their identifiers to the negative lookup filters. The policies of all entities stored in the
+ * same space are updated, since they read the same records. The records changed by the updates and the removals are
+ * forgotten by the change trackers, while the snapshots of the saved entities are kept, since the template takes them
+ * from the written tuples. The reads use the policies directly.
+ */
+final class EntityWritePolicies {
+
+    private final TarantoolPersistentEntity<?> entity;
+    @Nullable
+    private final NearCache nearCache;
+    @Nullable
+    private final WriteBehindBuffer writeBehindBuffer;
+    @Nullable
+    private final ChangeTracker changeTracker;
+    @Nullable
+    private final KeyBloomFilter keyFilter;
+    private final Supplier<? extends Collection<EntityWritePolicies>> spacePolicies;
+
+    private EntityWritePolicies(TarantoolPersistentEntity<?> entity, @Nullable NearCache nearCache,
+                                @Nullable WriteBehindBuffer writeBehindBuffer, @Nullable ChangeTracker changeTracker,
+                                @Nullable KeyBloomFilter keyFilter,
+                                Supplier<? extends Collection<EntityWritePolicies>> spacePolicies) {
+        this.entity = entity;
+        this.nearCache = nearCache;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.changeTracker = changeTracker;
+        this.keyFilter = keyFilter;
+        this.spacePolicies = spacePolicies;
+    }
+
+    /**
+     * Create the policies enabled by the annotations of the entity
+     *
+     * @param entity        persistent entity
+     * @param mapper        mapper for converting the tuple fields to MessagePack
+     * @param writer        function writing a batch of buffered entities
+     * @param spacePolicies function returning the policies of all entities stored in the space of the entity
+     * @return entity policies
+     */
+    static EntityWritePolicies of(TarantoolPersistentEntity<?> entity, MessagePackObjectMapper mapper,
+                                  Function<List<Object>, CompletableFuture<?>> writer,
+                                  Supplier<? extends Collection<EntityWritePolicies>> spacePolicies) {
+        return new EntityWritePolicies(entity, NearCache.of(entity), WriteBehindBuffer.of(entity, writer),
+                ChangeTracker.of(entity, mapper), KeyBloomFilter.of(entity), spacePolicies);
+    }
+
+    String getSpaceName() {
+        return entity.getSpaceName();
+    }
+
+    @Nullable
+    NearCache getNearCache() {
+        return nearCache;
+    }
+
+    @Nullable
+    WriteBehindBuffer getWriteBehindBuffer() {
+        return writeBehindBuffer;
+    }
+
+    @Nullable
+    ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
+    @Nullable
+    KeyBloomFilter getKeyFilter() {
+        return keyFilter;
+    }
+
+    /**
+     * Start the write operation after the buffered writes of the space and drop the written entities from the near
+     * cache when it is completed. The buffered entities are written before the operation if any of them has one of
+     * the written identifiers, so a failed operation does not lose them, otherwise the operation waits only for the
+     * entities being written. All buffered entities are written before the operation if any entity may be written
+     * by it. The buffers of all entities stored in the space are used, since they write the same records.
+     *
+     * @param ids       identifiers of the written entities or null if any entity may be written
+     * @param operation write operation
+     * @param <R>       operation result type
+     * @return future with the operation result
+     */
+    <R> CompletableFuture<R> write(@Nullable Supplier<? extends List<?>> ids,
+                                   Supplier<CompletableFuture<R>> operation) {
+        if (ids == null) {
+            return update(null, operation);
+        }
+        List<WriteBehindBuffer> buffers = getSpacePolicies(policies -> policies.writeBehindBuffer);
+        if (buffers.isEmpty()) {
+            return invalidateAfter(ids, operation, false);
+        }
+        List<?> keys = ids.get();
+        return runAfter(allOf(buffers, buffer -> buffer.startFlush(keys)),
+                () -> invalidateAfter(() -> keys, operation, false));
+    }
+
+    /**
+     * Start the write operation after all buffered writes of the space and drop the written entities from the near
+     * cache and the change tracker when it is completed. Used by the operations changing the existing records, which
+     * must not lose the buffered entities. The tracker forgets the records, since the operation may not return them.
+     *
+     * @param ids       identifiers of the written entities or null if any entity may be written
+     * @param operation write operation
+     * @param <R>       operation result type
+     * @return future with the operation result
+     */
+    <R> CompletableFuture<R> update(@Nullable Supplier<? extends List<?>> ids,
+                                    Supplier<CompletableFuture<R>> operation) {
+        List<WriteBehindBuffer> buffers = getSpacePolicies(policies -> policies.writeBehindBuffer);
+        if (buffers.isEmpty()) {
+            return invalidateAfter(ids, operation, true);
+        }
+        return runAfter(allOf(buffers, WriteBehindBuffer::startFlush), () -> invalidateAfter(ids, operation, true));
+    }
+
+    /**
+     * Start the operation removing the records after the entities being written and forget the removed records in
+     * the change tracker when it is completed, so saving a removed entity inserts it again. The buffered entities of
+     * the space with the removed identifiers are dropped, since the records are removed anyway.
+     *
+     * @param ids       identifiers of the removed entities
+     * @param operation remove operation
+     * @param <R>       operation result type
+     * @return future with the operation result
+     */
+    <R> CompletableFuture<R> remove(List<?> ids, Supplier<CompletableFuture<R>> operation) {
+        List<WriteBehindBuffer> buffers = getSpacePolicies(policies -> policies.writeBehindBuffer);
+        if (buffers.isEmpty()) {
+            return invalidateAfter(() -> ids, operation, true);
+        }
+        return runAfter(allOf(buffers, buffer -> buffer.discard(ids)),
+                () -> invalidateAfter(() -> ids, operation, true));
+    }
+
+    /**
+     * Put the saved entity into the write-behind buffer or start the operation writing it like
+     * {@link #write(Supplier, Supplier)}
+     *
+     * @param saved     saved entity
+     * @param operation write operation
+     * @param <R>       operation result type
+     * @return future with the operation result or with null when the entity is buffered, which may wait for room in
+     * the buffer
+     */
+    <R> CompletableFuture<R> save(Object saved, Supplier<CompletableFuture<R>> operation) {
+        if (writeBehindBuffer != null) {
+            return writeBehindBuffer.put(entity.getIdentifierAccessor(saved).getRequiredIdentifier(), saved)
+                    .thenApply(buffered -> null);
+        }
+        return write(() -> Collections.singletonList(entity.getIdentifierAccessor(saved).getIdentifier()),
+                operation);
+    }
+
+    /**
+     * Start the operation writing the entities taken from the write-behind buffer. Unlike
+     * {@link #write(Supplier, Supplier)}, does not wait for the buffered writes.
+     *
+     * @param ids       identifiers of the written entities
+     * @param operation write operation
+     * @param <R>       operation result type
+     * @return future with the operation result
+     */
+    <R> CompletableFuture<R> writeFlushed(List<?> ids, Supplier<CompletableFuture<R>> operation) {
+        return invalidateAfter(() -> ids, operation, false);
+    }
+
+    /**
+     * Start the operation truncating the space after the entities being written, dropping the buffered entities of
+     * the space, and forget all records of the space in the near caches and the change trackers when it is completed
+     *
+     * @param policies  policies of the entities stored in the space
+     * @param operation truncate operation
+     * @param <R>       operation result type
+     * @return future with the operation result
+     */
+    static <R> CompletableFuture<R> truncate(Collection<EntityWritePolicies> policies,
+                                             Supplier<CompletableFuture<R>> operation) {
+        CompletableFuture<Void> buffered = CompletableFuture.allOf(policies.stream()
+                .filter(entityPolicies -> entityPolicies.writeBehindBuffer != null)
+                .map(entityPolicies -> entityPolicies.writeBehindBuffer.discardAll())
+                .toArray(CompletableFuture[]::new));
+        return runAfter(buffered, operation).whenComplete((value, error) -> {
+            for (EntityWritePolicies entityPolicies : policies) {
+                if (entityPolicies.nearCache != null) {
+                    entityPolicies.nearCache.invalidateAll();
+                }
+                if (entityPolicies.changeTracker != null) {
+                    entityPolicies.changeTracker.forgetAll();
+                }
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> allOf(List<WriteBehindBuffer> buffers,
+                                                 Function<WriteBehindBuffer, CompletableFuture<Void>> flush) {
+        if (buffers.size() == 1) {
+            return flush.apply(buffers.get(0));
+        }
+        return CompletableFuture.allOf(buffers.stream().map(flush).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Start the operation when the buffered writes are completed, successfully or not: the failed writes are reported
+     * by {@link WriteBehindBuffer#flush()}. The operation is started in the calling thread if there are no writes in
+     * flight, so it uses the timeout of the caller.
+     */
+    private static <R> CompletableFuture<R> runAfter(CompletableFuture<Void> buffered,
+                                                     Supplier<CompletableFuture<R>> operation) {
+        if (buffered.isDone()) {
+            return operation.get();
+        }
+        return buffered.handle((value, error) -> null).thenCompose(value -> operation.get());
+    }
+
+    /**
+     * Start the write operation and drop the written entities from the near caches and the change trackers of the
+     * space when it is completed, either successfully or not, since a failed request may still be applied. The
+     * returned future is completed after the caches are updated, so the callers find the written values. The tracker
+     * of the written entity keeps the records unless they are changed in place, since the saved tuples are snapshot
+     * by the template. The identifiers are added to the negative lookup filters of the space before the operation is
+     * started and again when it is completed, since a reload of a filter started while the operation is in flight may
+     * have scanned the space before the write.
+     */
+    private <R> CompletableFuture<R> invalidateAfter(@Nullable Supplier<? extends List<?>> ids,
+                                                     Supplier<CompletableFuture<R>> operation,
+                                                     boolean changedInPlace) {
+        List<NearCache> nearCaches = getSpacePolicies(policies -> policies.nearCache);
+        List<ChangeTracker> changeTrackers = getSpacePolicies(policies ->
+                policies != this || changedInPlace ? policies.changeTracker : null);
+        List<KeyBloomFilter> keyFilters = getSpacePolicies(policies -> policies.keyFilter);
+        if (nearCaches.isEmpty() && changeTrackers.isEmpty() && keyFilters.isEmpty()) {
+            return operation.get();
+        }
+        List<?> keys = ids != null ? ids.get() : null;
+        if (keys == null && nearCaches.isEmpty() && changeTrackers.isEmpty()) {
+            return operation.get();
+        }
+        if (keys != null) {
+            for (KeyBloomFilter filter : keyFilters) {
+                filter.putAll(keys);
+            }
+        }
+        return operation.get().whenComplete((value, error) -> {
+            for (NearCache cache : nearCaches) {
+                if (keys != null) {
+                    cache.invalidate(keys);
+                } else {
+                    cache.invalidateAll();
+                }
+            }
+            for (ChangeTracker tracker : changeTrackers) {
+                if (keys != null) {
+                    tracker.forget(keys);
+                } else {
+                    tracker.forgetAll();
+                }
+            }
+            if (keys != null) {
+                for (KeyBloomFilter filter : keyFilters) {
+                    filter.putAll(keys);
+                }
+            }
+        });
+    }
+
+    private <T> List<T> getSpacePolicies(Function<EntityWritePolicies, T> policy) {
+        List<T> found = Collections.emptyList();
+        for (EntityWritePolicies policies : spacePolicies.get()) {
+            T value = policy.apply(policies);
+            if (value != null) {
+                if (found.isEmpty()) {
+                    found = new ArrayList<>();
+                }
+                found.add(value);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,144 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.api.metadata.TarantoolIndexType;
+import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ordered scan of a space by a TREE index. Tarantool returns the tuples in the index order, so a {@link Sort} which
+ * matches the leading parts of an index is satisfied without sorting on the client side, and the scan can be
+ * continued after the key of the last tuple if the index is unique.
+ */
+final class IndexScan {
+
+    private final TarantoolIndexMetadata index;
+    private final boolean descending;
+
+    private IndexScan(TarantoolIndexMetadata index, boolean descending) {
+        this.index = index;
+        this.descending = descending;
+    }
+
+    /**
+     * Get the ascending scan by the primary index of the space
+     *
+     * @param metadata  space metadata operations
+     * @param spaceName space name
+     * @return the scan or null if the space metadata is not available or the primary index is not a TREE one
+     */
+    @Nullable
+    static IndexScan primary(TarantoolMetadataOperations metadata, String spaceName) {
+        return metadata.getIndexById(spaceName, 0)
+                .filter(IndexScan::isOrdered)
+                .map(index -> new IndexScan(index, false))
+                .orElse(null);
+    }
+
+    /**
+     * Find the scan returning the tuples in the specified order. The sort properties must match the leading parts
+     * of a TREE index and have the same direction. The primary index is preferred if several indexes match.
+     *
+     * @param metadata space metadata operations
+     * @param entity   entity metadata, used for mapping the sort properties to the tuple fields
+     * @param sort     requested order
+     * @return the scan or null if no index matches
+     */
+    @Nullable
+    static IndexScan forSort(TarantoolMetadataOperations metadata, TarantoolPersistentEntity<?> entity, Sort sort) {
+        String spaceName = entity.getSpaceName();
+        if (sort.isUnsorted()) {
+            return primary(metadata, spaceName);
+        }
+        Optional<TarantoolSpaceMetadata> spaceMetadata = metadata.getSpaceByName(spaceName);
+        Optional<Map<String, TarantoolIndexMetadata>> indexes = metadata.getSpaceIndexes(spaceName);
+        if (!spaceMetadata.isPresent() || !indexes.isPresent()) {
+            return null;
+        }
+        List<Integer> fieldPositions = new ArrayList<>();
+        Sort.Direction direction = null;
+        for (Sort.Order order : sort) {
+            if (direction != null && direction != order.getDirection()) {
+                return null;
+            }
+            direction = order.getDirection();
+            String fieldName = entity.getRequiredPersistentProperty(order.getProperty()).getFieldName();
+            if (!spaceMetadata.get().getFieldByName(fieldName).isPresent()) {
+                return null;
+            }
+            fieldPositions.add(spaceMetadata.get().getFieldPositionByName(fieldName));
+        }
+        boolean descending = direction == Sort.Direction.DESC;
+        return indexes.get().values().stream()
+                .filter(IndexScan::isOrdered)
+                .filter(index -> startsWith(index, fieldPositions))
+                .min(Comparator.comparingInt(TarantoolIndexMetadata::getIndexId))
+                .map(index -> new IndexScan(index, descending))
+                .orElse(null);
+    }
+
+    /**
+     * Get the conditions selecting all tuples in the scan order
+     *
+     * @return select conditions
+     */
+    Conditions conditions() {
+        if (descending) {
+            return Conditions.indexLessOrEquals(index.getIndexId(), Collections.emptyList());
+        }
+        if (index.isPrimary()) {
+            return Conditions.any();
+        }
+        return Conditions.indexGreaterOrEquals(index.getIndexId(), Collections.emptyList());
+    }
+
+    /**
+     * Get the conditions selecting the tuples following the specified one in the scan order
+     *
+     * @param lastTuple the last tuple of the previous page
+     * @return select conditions or null if the index is not unique, so the tuples with an equal key may be lost
+     */
+    @Nullable
+    Conditions after(TarantoolTuple lastTuple) {
+        if (!index.isUnique()) {
+            return null;
+        }
+        List<Object> key = new ArrayList<>();
+        for (TarantoolIndexPartMetadata<?> part : index.getIndexParts()) {
+            key.add(lastTuple.getObject(part.getFieldIndex()).orElse(null));
+        }
+        return descending ?
+                Conditions.indexLessThan(index.getIndexId(), key) :
+                Conditions.indexGreaterThan(index.getIndexId(), key);
+    }
+
+    private static boolean isOrdered(TarantoolIndexMetadata index) {
+        return index.getIndexType() == TarantoolIndexType.TREE;
+    }
+
+    private static boolean startsWith(TarantoolIndexMetadata index, List<Integer> fieldPositions) {
+        int position = 0;
+        for (TarantoolIndexPartMetadata<?> part : index.getIndexParts()) {
+            if (position == fieldPositions.size()) {
+                return true;
+            }
+            if (part.getFieldIndex() != fieldPositions.get(position++)) {
+                return false;
+            }
+        }
+        return position == fieldPositions.size();
+    }
+}
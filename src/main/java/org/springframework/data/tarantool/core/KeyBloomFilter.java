@@ -0,0 +1,283 @@
+package org.springframework.data.tarantool.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.tarantool.core.mapping.TarantoolBloomFilter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the primary keys of an entity space, answering if a record with an identifier is definitely
+ * absent. The filter is used after the keys of the space are loaded into it, and the keys are loaded again into a new
+ * generation of the filter after the reload interval, while the previous generation keeps answering the lookups. The
+ * written identifiers are added to the existing generations, so the writers add them again after the write is
+ * completed for the generation started while it was in flight. Only the identifiers of the declared identifier type
+ * are hashed, like in {@link NearCache}; the filter is disabled until it is invalidated if an identifier of another
+ * type is written, since its record could not be found by the entity identifier.
+ */
+final class KeyBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyBloomFilter.class);
+
+    private final String spaceName;
+    private final Class<?> keyType;
+    private final int words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long reloadIntervalNanos;
+    @Nullable
+    private volatile Generation active;
+    @Nullable
+    private volatile Generation loading;
+    private volatile boolean disabled;
+    private long failedNanos;
+
+    KeyBloomFilter(String spaceName, Class<?> keyType, int expectedRecords, double falsePositiveRate,
+                   long reloadIntervalMillis) {
+        this.spaceName = spaceName;
+        this.keyType = keyType;
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedRecords * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.words = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedRecords * ln2));
+        this.reloadIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(reloadIntervalMillis, 0));
+    }
+
+    /**
+     * Create the filter for the entity marked with {@link TarantoolBloomFilter}
+     *
+     * @param entity persistent entity
+     * @return new filter or null if the entity is not filtered
+     */
+    @Nullable
+    static KeyBloomFilter of(TarantoolPersistentEntity<?> entity) {
+        TarantoolBloomFilter filter = entity.findAnnotation(TarantoolBloomFilter.class);
+        if (filter == null) {
+            return null;
+        }
+        Class<?> keyType = entity.getTarantoolIdClass().orElse(null);
+        TarantoolPersistentProperty idProperty = entity.getIdProperty();
+        if (keyType == null && idProperty != null) {
+            keyType = ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType());
+        }
+        if (keyType == null || filter.expectedRecords() <= 0 ||
+                filter.falsePositiveRate() <= 0 || filter.falsePositiveRate() >= 1) {
+            return null;
+        }
+        return new KeyBloomFilter(entity.getSpaceName(), keyType, filter.expectedRecords(),
+                filter.falsePositiveRate(), filter.reloadInterval());
+    }
+
+    String getSpaceName() {
+        return spaceName;
+    }
+
+    Class<?> getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Start loading the keys into a new generation if the filter is not loaded yet or the loaded generation is older
+     * than the reload interval. A failed load is retried after the reload interval, or after the filter is
+     * invalidated if the filter is not reloaded.
+     *
+     * @return generation to be loaded by the caller, or null if the filter is loading, loaded recently or disabled
+     */
+    @Nullable
+    synchronized Generation startLoading() {
+        if (disabled || loading != null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        Generation current = active;
+        if (current != null && (reloadIntervalNanos == 0 || now - current.loadedNanos < reloadIntervalNanos)) {
+            return null;
+        }
+        if (current == null && failedNanos != 0 &&
+                (reloadIntervalNanos == 0 || now - failedNanos < reloadIntervalNanos)) {
+            return null;
+        }
+        Generation generation = new Generation(words);
+        loading = generation;
+        return generation;
+    }
+
+    /**
+     * Start answering the lookups with the generation after all keys of the space are added to it
+     *
+     * @param generation loaded generation
+     */
+    synchronized void loaded(Generation generation) {
+        if (loading == generation) {
+            loading = null;
+            generation.loadedNanos = System.nanoTime();
+            active = generation;
+            failedNanos = 0;
+        }
+    }
+
+    /**
+     * Stop using the filter if its keys could not be loaded. The lookups are sent to Tarantool.
+     *
+     * @param generation generation being loaded
+     * @param error      loading error
+     */
+    synchronized void failed(Generation generation, Throwable error) {
+        if (loading == generation) {
+            loading = null;
+            active = null;
+            failedNanos = Math.max(System.nanoTime(), 1);
+            logger.warn("Failed to load the primary keys of space {}, the lookups are not filtered", spaceName, error);
+        }
+    }
+
+    /**
+     * Drop the loaded keys, e.g. after the space is written bypassing the template. The lookups are sent to Tarantool
+     * until the keys are loaded again, which is started by the next lookup. The filter disabled by an unknown
+     * identifier is enabled again.
+     */
+    synchronized void invalidate() {
+        active = null;
+        loading = null;
+        disabled = false;
+        failedNanos = 0;
+    }
+
+    /**
+     * Add the identifiers of the existing or written records. The filter is disabled if an identifier is unknown,
+     * like the one generated by Tarantool for a record inserted without it.
+     *
+     * @param ids identifiers
+     */
+    void putAll(Collection<?> ids) {
+        for (Object id : ids) {
+            if (id == null || id.getClass() != keyType) {
+                disable();
+                return;
+            }
+        }
+        Generation current = active;
+        Generation next = loading;
+        for (Object id : ids) {
+            long hash = hash(id);
+            if (current != null) {
+                put(current, hash);
+            }
+            if (next != null) {
+                put(next, hash);
+            }
+        }
+    }
+
+    /**
+     * Add the loaded identifiers to the generation being loaded
+     *
+     * @param generation generation being loaded
+     * @param ids        identifiers of the existing records
+     */
+    void putLoaded(Generation generation, Collection<?> ids) {
+        for (Object id : ids) {
+            if (id == null || id.getClass() != keyType) {
+                disable();
+                return;
+            }
+            put(generation, hash(id));
+        }
+    }
+
+    private synchronized void disable() {
+        disabled = true;
+        active = null;
+        loading = null;
+    }
+
+    private void put(Generation generation, long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hash, i);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long value = generation.bits.get(word);
+            while ((value & mask) == 0 && !generation.bits.compareAndSet(word, value, value | mask)) {
+                value = generation.bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * Check if the record with the identifier may exist
+     *
+     * @param id entity id
+     * @return false if the filter is loaded and the identifier is definitely absent
+     */
+    boolean mightContain(Object id) {
+        Generation current = active;
+        if (current == null || id.getClass() != keyType) {
+            return true;
+        }
+        long hash = hash(id);
+        for (int i = 0; i < hashCount; i++) {
+            long index = bitIndex(hash, i);
+            if ((current.bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(long hash, int i) {
+        long combined = (int) hash + (long) i * (int) (hash >>> 32);
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * Hash the identifier to 64 bits. The numbers, UUIDs and strings are hashed by their value, the other
+     * identifiers by their 32-bit hash code.
+     */
+    private static long hash(Object id) {
+        if (id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte) {
+            return mix(((Number) id).longValue());
+        }
+        if (id instanceof UUID) {
+            UUID uuid = (UUID) id;
+            return mix(uuid.getMostSignificantBits() ^ mix(uuid.getLeastSignificantBits()));
+        }
+        if (id instanceof String) {
+            String value = (String) id;
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+        return mix(id.hashCode());
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Bits of the keys loaded by one scan of the space and of the keys written since the scan is started
+     */
+    static final class Generation {
+        private final AtomicLongArray bits;
+        private volatile long loadedNanos;
+
+        private Generation(int words) {
+            this.bits = new AtomicLongArray(words);
+        }
+    }
+}
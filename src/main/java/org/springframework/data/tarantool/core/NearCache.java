@@ -0,0 +1,179 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.data.tarantool.core.mapping.TarantoolCache;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU cache of the tuples found by entity id, with expiration. The tuples are never passed to the
+ * callers, the entities are mapped from them on each hit. Each invalidation increments the cache version, and the
+ * tuples selected before an invalidation are not cached, so a concurrent write is not hidden by a stale select.
+ * Only the identifiers of the declared identifier type are cached, so the same record is not cached under the keys
+ * of different types, which could not be invalidated by the entity identifier.
+ */
+final class NearCache {
+
+    private final String spaceName;
+    private final Class<?> keyType;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Object, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long version;
+
+    NearCache(String spaceName, Class<?> keyType, int maxSize, long ttlMillis) {
+        this.spaceName = spaceName;
+        this.keyType = keyType;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Create the cache for the entity marked with {@link TarantoolCache}
+     *
+     * @param entity persistent entity
+     * @return new cache or null if the entity is not cached
+     */
+    @Nullable
+    static NearCache of(TarantoolPersistentEntity<?> entity) {
+        TarantoolCache cache = entity.findAnnotation(TarantoolCache.class);
+        if (cache == null) {
+            return null;
+        }
+        Class<?> keyType = entity.getTarantoolIdClass().orElse(null);
+        TarantoolPersistentProperty idProperty = entity.getIdProperty();
+        if (keyType == null && idProperty != null) {
+            keyType = ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType());
+        }
+        if (keyType == null || cache.maxSize() <= 0) {
+            return null;
+        }
+        return new NearCache(entity.getSpaceName(), keyType, cache.maxSize(), cache.ttl());
+    }
+
+    String getSpaceName() {
+        return spaceName;
+    }
+
+    /**
+     * Check if the records found by the identifier can be cached
+     *
+     * @param id entity id
+     * @return true if the identifier has the declared type
+     */
+    boolean accepts(Object id) {
+        return id.getClass() == keyType;
+    }
+
+    /**
+     * Return the cached tuple
+     *
+     * @param id entity id
+     * @return tuple or null if the tuple is not cached or expired
+     */
+    @Nullable
+    synchronized TarantoolTuple get(Object id) {
+        Entry entry = entries.get(id);
+        if (entry != null && isExpired(entry, System.nanoTime())) {
+            entries.remove(id);
+            evictions.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.tuple;
+    }
+
+    /**
+     * Return the current version to be passed to {@link #put(Object, TarantoolTuple, long)} after the tuple is
+     * selected
+     *
+     * @return cache version
+     */
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Cache the tuple unless the cache was invalidated since the specified version
+     *
+     * @param id      entity id
+     * @param tuple   selected tuple
+     * @param version cache version before the select
+     */
+    synchronized void put(Object id, TarantoolTuple tuple, long version) {
+        if (version != this.version) {
+            return;
+        }
+        entries.put(id, new Entry(tuple, System.nanoTime()));
+        evict();
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entries.size() <= maxSize && !isExpired(entry, now)) {
+                break;
+            }
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlNanos > 0 && now - entry.createdNanos >= ttlNanos;
+    }
+
+    /**
+     * Drop the cached records with the specified identifiers. All records are dropped if some identifier does not
+     * have the declared type.
+     *
+     * @param ids identifiers of the written entities, the null values are skipped
+     */
+    synchronized void invalidate(Collection<?> ids) {
+        version++;
+        for (Object id : ids) {
+            if (id != null && !accepts(id)) {
+                entries.clear();
+                return;
+            }
+        }
+        entries.keySet().removeAll(ids);
+    }
+
+    synchronized void invalidateAll() {
+        version++;
+        entries.clear();
+    }
+
+    synchronized TarantoolCacheStatistics getStatistics() {
+        return new TarantoolCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private static final class Entry {
+        private final TarantoolTuple tuple;
+        private final long createdNanos;
+
+        private Entry(TarantoolTuple tuple, long createdNanos) {
+            this.tuple = tuple;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
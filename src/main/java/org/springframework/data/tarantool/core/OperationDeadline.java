@@ -0,0 +1,135 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which a template operation has to be completed. The deadline is bound to the thread starting the
+ * operation and to the threads completing its requests, so all round trips of a composite operation share it. The
+ * requests still in flight at the deadline are cancelled.
+ */
+final class OperationDeadline {
+
+    private static final ThreadLocal<OperationDeadline> CURRENT = new ThreadLocal<>();
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+
+    private OperationDeadline(Duration timeout, long deadlineNanos) {
+        this.timeout = timeout;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "TarantoolTemplateDeadlineTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Create a deadline expiring after the specified timeout from now
+     *
+     * @param timeout operation timeout
+     * @return new deadline
+     */
+    static OperationDeadline after(Duration timeout) {
+        return new OperationDeadline(timeout, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Return the deadline of the operation executed by the current thread
+     *
+     * @return the current deadline or null if the operation is not bounded
+     */
+    @Nullable
+    static OperationDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Return the deadline expiring first
+     *
+     * @param other other deadline, may be null
+     * @return this or the other deadline
+     */
+    OperationDeadline earliest(@Nullable OperationDeadline other) {
+        return other != null && other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    /**
+     * Invoke the action with this deadline bound to the current thread
+     *
+     * @param action action
+     * @param <R>    action result type
+     * @return action result
+     */
+    <R> R call(Supplier<R> action) {
+        OperationDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Run the action with this deadline bound to the current thread
+     *
+     * @param action action
+     */
+    void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Cancel the request future if it is not completed by the deadline
+     *
+     * @param future request future
+     * @param <R>    request result type
+     * @return the same future
+     */
+    <R> CompletableFuture<R> track(CompletableFuture<R> future) {
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            future.cancel(true);
+        } else if (!future.isDone()) {
+            ScheduledFuture<?> expiration =
+                    TIMER.schedule(() -> future.cancel(true), remaining, TimeUnit.NANOSECONDS);
+            future.whenComplete((value, error) -> expiration.cancel(false));
+        }
+        return future;
+    }
+
+    QueryTimeoutException timeoutException() {
+        return new QueryTimeoutException(
+                String.format("Operation has not been completed within %d ms", timeout.toMillis()));
+    }
+}
@@ -0,0 +1,92 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Iterator over the tuples matching a query, which selects them from the space by pages. The first page is requested
+ * on the first access, the request for the next page is sent as soon as the previous page is received, so the next
+ * page is being fetched while the current one is consumed. Closing the iterator drops the pending request.
+ */
+final class PrefetchingTupleIterator implements Iterator<TarantoolTuple>, AutoCloseable {
+
+    private final BaseTarantoolTemplate template;
+    private final TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space;
+    private final Conditions query;
+    private final int pageSize;
+
+    private Iterator<TarantoolTuple> current = Collections.emptyIterator();
+    @Nullable
+    private CompletableFuture<TarantoolResult<TarantoolTuple>> pending;
+    private long pendingLimit;
+    private long fetched;
+    private boolean started;
+    private boolean closed;
+
+    PrefetchingTupleIterator(BaseTarantoolTemplate template,
+                             TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space,
+                             Conditions query, int pageSize) {
+        this.template = template;
+        this.space = space;
+        this.query = query;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            request(null);
+        }
+        while (!current.hasNext()) {
+            if (closed || pending == null) {
+                return false;
+            }
+            CompletableFuture<TarantoolResult<TarantoolTuple>> page = pending;
+            long limit = pendingLimit;
+            pending = null;
+            TarantoolResult<TarantoolTuple> tuples = template.getFutureValue(page);
+            fetched += tuples.size();
+            if (!tuples.isEmpty() && tuples.size() >= limit) {
+                request(tuples.get(tuples.size() - 1));
+            }
+            current = tuples.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public TarantoolTuple next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    private void request(@Nullable TarantoolTuple lastTuple) {
+        Conditions pageQuery = template.nextPageQuery(space, query, lastTuple, fetched, pageSize);
+        if (pageQuery == null) {
+            return;
+        }
+        pendingLimit = pageQuery.getLimit();
+        pending = template.executeAsync(() -> space.select(pageQuery));
+    }
+}
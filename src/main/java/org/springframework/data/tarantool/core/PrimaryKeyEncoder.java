@@ -0,0 +1,64 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+
+/**
+ * Builds the primary key conditions for the identifiers of an entity. The way of writing the identifier is resolved
+ * once per entity: the scalar identifiers of the simple types without custom write conversions, like {@link Long},
+ * {@link String} or {@link java.util.UUID}, are put into the key as is, since the converter would return them
+ * unchanged. The composite and the converted identifiers are left for the entity converter.
+ */
+final class PrimaryKeyEncoder {
+
+    private final TarantoolPersistentEntity<?> entity;
+    @Nullable
+    private final Class<?> directType;
+
+    private PrimaryKeyEncoder(TarantoolPersistentEntity<?> entity, @Nullable Class<?> directType) {
+        this.entity = entity;
+        this.directType = directType;
+    }
+
+    /**
+     * Resolve the encoder for the entity identifiers
+     *
+     * @param entity      persistent entity
+     * @param conversions custom conversions of the entity converter
+     * @return new encoder
+     */
+    static PrimaryKeyEncoder of(TarantoolPersistentEntity<?> entity, CustomConversions conversions) {
+        TarantoolPersistentProperty idProperty = entity.getIdProperty();
+        if (entity.hasTarantoolIdClassAnnotation() || idProperty == null) {
+            return new PrimaryKeyEncoder(entity, null);
+        }
+        Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType());
+        boolean direct = conversions.isSimpleType(idType) && !conversions.getCustomWriteTarget(idType).isPresent();
+        return new PrimaryKeyEncoder(entity, direct ? idType : null);
+    }
+
+    TarantoolPersistentEntity<?> getEntity() {
+        return entity;
+    }
+
+    /**
+     * Build the primary key conditions for the identifier without the entity converter
+     *
+     * @param id identifier value
+     * @return conditions or null if the identifier has to be converted
+     */
+    @Nullable
+    Conditions encode(Object id) {
+        if (directType == null || id.getClass() != directType) {
+            return null;
+        }
+        return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, Collections.singletonList(id));
+    }
+}
@@ -0,0 +1,169 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the projections of an entity straight from its tuples, without instantiating the entity. Only the fields
+ * mapped to the properties used by the projection are read, so the tuples may be selected with these fields only.
+ * The closed interface projections are backed by the map of the property values, the DTO projections are read by the
+ * converter from the map of the field values. The open interface projections may use any property of the entity in
+ * their expressions, so they are created from the entity read from the full tuple.
+ *
+ * @param <R> projection type
+ */
+final class ProjectionReader<R> {
+
+    private final Class<?> entityType;
+    private final Class<R> resultType;
+    private final ProjectionFactory projectionFactory;
+    private final TarantoolConverter converter;
+    private final boolean projecting;
+    private final boolean interfaceProjection;
+    private final Map<String, TarantoolPersistentProperty> properties;
+    @Nullable
+    private final List<String> fieldNames;
+
+    private ProjectionReader(Class<?> entityType, Class<R> resultType, ProjectionFactory projectionFactory,
+                             TarantoolConverter converter, boolean projecting,
+                             Map<String, TarantoolPersistentProperty> properties) {
+        this.entityType = entityType;
+        this.resultType = resultType;
+        this.projectionFactory = projectionFactory;
+        this.converter = converter;
+        this.projecting = projecting;
+        this.interfaceProjection = resultType.isInterface();
+        this.properties = properties;
+        if (properties.isEmpty()) {
+            this.fieldNames = null;
+        } else {
+            List<String> names = new ArrayList<>(properties.size());
+            properties.values().forEach(property -> {
+                if (!names.contains(property.getFieldName())) {
+                    names.add(property.getFieldName());
+                }
+            });
+            this.fieldNames = Collections.unmodifiableList(names);
+        }
+    }
+
+    /**
+     * Create the reader of the projection of the entity
+     *
+     * @param entity            persistent entity
+     * @param resultType        projection interface or DTO class, or the entity class itself
+     * @param projectionFactory factory of the interface projections
+     * @param converter         entity converter
+     * @param <R>               projection type
+     * @return new reader
+     */
+    static <R> ProjectionReader<R> of(TarantoolPersistentEntity<?> entity, Class<R> resultType,
+                                      ProjectionFactory projectionFactory, TarantoolConverter converter) {
+        boolean projecting = !resultType.isAssignableFrom(entity.getType());
+        Map<String, TarantoolPersistentProperty> properties = new LinkedHashMap<>();
+        if (projecting && resultType.isInterface()) {
+            ProjectionInformation information = projectionFactory.getProjectionInformation(resultType);
+            for (PropertyDescriptor descriptor : information.isClosed() ?
+                    information.getInputProperties() : Collections.<PropertyDescriptor>emptyList()) {
+                TarantoolPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+                if (property == null) {
+                    properties.clear();
+                    break;
+                }
+                properties.put(descriptor.getName(), property);
+            }
+        } else if (projecting) {
+            TarantoolPersistentEntity<?> dto = converter.getMappingContext().getRequiredPersistentEntity(resultType);
+            dto.doWithProperties((PropertyHandler<TarantoolPersistentProperty>) dtoProperty -> {
+                TarantoolPersistentProperty property = entity.getPersistentProperty(dtoProperty.getName());
+                if (property != null) {
+                    properties.put(dtoProperty.getFieldName(), property);
+                }
+            });
+        }
+        return new ProjectionReader<>(entity.getType(), resultType, projectionFactory, converter,
+                projecting, properties);
+    }
+
+    /**
+     * Return the names of the fields to be selected
+     *
+     * @return field names or null if the full tuples are needed
+     */
+    @Nullable
+    List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Read the projection from the tuple
+     *
+     * @param tuple tuple containing at least the fields returned by {@link #getFieldNames()}
+     * @return projection or null if the tuple is null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    R read(@Nullable TarantoolTuple tuple) {
+        if (tuple == null) {
+            return null;
+        }
+        if (!projecting) {
+            return (R) converter.read(entityType, tuple);
+        }
+        if (fieldNames == null) {
+            return interfaceProjection ?
+                    projectionFactory.createProjection(resultType, converter.read(entityType, tuple)) :
+                    converter.read(resultType, tuple);
+        }
+        Map<String, Object> values = new HashMap<>(properties.size() * 2);
+        properties.forEach((name, property) -> values.put(name, readValue(tuple, property)));
+        return interfaceProjection ? projectionFactory.createProjection(resultType, values) :
+                converter.read(resultType, values);
+    }
+
+    @Nullable
+    private Object readValue(TarantoolTuple tuple, TarantoolPersistentProperty property) {
+        String fieldName = property.getFieldName();
+        if (!interfaceProjection) {
+            return tuple.getObject(fieldName).orElse(null);
+        }
+        if (property.isEntity() && !property.isMap()) {
+            return readEntityValue(tuple.getObject(fieldName).orElse(null), property.getActualType());
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+        Object value = tuple.canGetObject(fieldName, type) ?
+                tuple.getObject(fieldName, type).orElse(null) : tuple.getObject(fieldName).orElse(null);
+        ConversionService conversionService = converter.getConversionService();
+        if (value != null && !type.isInstance(value) && conversionService.canConvert(value.getClass(), type)) {
+            return conversionService.convert(value, type);
+        }
+        return value;
+    }
+
+    @Nullable
+    private Object readEntityValue(@Nullable Object value, Class<?> type) {
+        if (value instanceof Collection) {
+            List<Object> elements = new ArrayList<>(((Collection<?>) value).size());
+            ((Collection<?>) value).forEach(element -> elements.add(readEntityValue(element, type)));
+            return elements;
+        }
+        return value instanceof Map ? converter.read(type, value) : value;
+    }
+}
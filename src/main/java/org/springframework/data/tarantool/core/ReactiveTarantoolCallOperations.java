@@ -0,0 +1,167 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.Value;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link TarantoolCallOperations}. The function is called when the returned publisher is
+ * subscribed to. Functions return their results in one response, so the list results are emitted element by element
+ * after the whole response is received.
+ *
+ * @see TarantoolCallOperations
+ */
+public interface ReactiveTarantoolCallOperations {
+
+    /**
+     * Call a function defined in Tarantool instance API which returns one entity as result.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param spaceName    space name in Tarantool instance
+     * @param entityType   desired type of the result object
+     * @return function call result
+     * @see TarantoolCallOperations#callForTuple(String, List, String, Class)
+     */
+    <T> Mono<T> callForTuple(String functionName, List<?> parameters, String spaceName, Class<T> entityType);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns some MessagePack value as result. The given
+     * entity converter will be used for converting the result value into an entity.
+     *
+     * @param <T>             target entity type
+     * @param functionName    callable API function name
+     * @param parameters      function parameters
+     * @param entityConverter converter from MessagePack value to the result entity type
+     * @return function call result
+     * @see TarantoolCallOperations#callForTuple(String, List, ValueConverter)
+     */
+    <T> Mono<T> callForTuple(String functionName, List<?> parameters, ValueConverter<Value, T> entityConverter);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of entities as result.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param spaceName    space name in Tarantool instance
+     * @param entityType   desired type of the result object
+     * @return function call result
+     * @see TarantoolCallOperations#callForTupleList(String, List, String, Class)
+     */
+    <T> Flux<T> callForTupleList(String functionName, List<?> parameters, String spaceName, Class<T> entityType);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of tuples of the entity space and map
+     * them to the projections of the entity.
+     *
+     * @param <T>          entity type
+     * @param <R>          projection type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param spaceName    space name in Tarantool instance
+     * @param entityType   entity class, defines the mapping of the tuple fields
+     * @param resultType   projection interface or DTO class
+     * @return function call result
+     * @see TarantoolCallOperations#callForTupleList(String, List, String, Class, Class)
+     */
+    <T, R> Flux<R> callForTupleList(String functionName, List<?> parameters, String spaceName, Class<T> entityType,
+                                    Class<R> resultType);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of MessagePack values as result. The
+     * given entity converter will be used for converting each value in the result into an entity.
+     *
+     * @param <T>             target entity type
+     * @param functionName    callable API function name
+     * @param parameters      function parameters
+     * @param entityConverter converter from MessagePack value to the result entity type
+     * @return function call result
+     * @see TarantoolCallOperations#callForTupleList(String, List, ValueConverter)
+     */
+    <T> Flux<T> callForTupleList(String functionName, List<?> parameters, ValueConverter<Value, T> entityConverter);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns one object
+     * in query method result format.
+     *
+     * @param <T>             target entity type
+     * @param functionName    callable API function name
+     * @param parameters      function parameters
+     * @param entityConverter converter from MessagePack value to the result object type
+     * @return function call result
+     * @see TarantoolCallOperations#callForObject(String, List, ValueConverter)
+     */
+    <T> Mono<T> callForObject(String functionName, List<?> parameters, ValueConverter<Value, T> entityConverter);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns one object
+     * in query method result format.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param entityType   desired type of the result object
+     * @return function call result
+     * @see TarantoolCallOperations#callForObject(String, List, Class)
+     */
+    <T> Mono<T> callForObject(String functionName, List<?> parameters, Class<T> entityType);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns one object
+     * in query method result format. The space metadata is used for mapping flat tuples.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param entityType   desired type of the result object
+     * @param spaceName    space name in Tarantool instance
+     * @return function call result
+     * @see TarantoolCallOperations#callForObject(String, List, Class, String)
+     */
+    <T> Mono<T> callForObject(String functionName, List<?> parameters, Class<T> entityType, String spaceName);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of objects
+     * in query method result format.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param entityType   desired type of the result object
+     * @return function call result
+     * @see TarantoolCallOperations#callForObjectList(String, List, Class)
+     */
+    <T> Flux<T> callForObjectList(String functionName, List<?> parameters, Class<T> entityType);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of objects
+     * in query method result format. The space metadata is used for mapping flat tuples.
+     *
+     * @param <T>          target entity type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param entityType   desired type of the result object
+     * @param spaceName    space name in Tarantool instance
+     * @return function call result
+     * @see TarantoolCallOperations#callForObjectList(String, List, Class, String)
+     */
+    <T> Flux<T> callForObjectList(String functionName, List<?> parameters, Class<T> entityType, String spaceName);
+
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of objects
+     * in query method result format.
+     *
+     * @param <T>             target entity type
+     * @param functionName    callable API function name
+     * @param parameters      function parameters
+     * @param entityConverter converter from MessagePack value to the result object type
+     * @return function call result
+     * @see TarantoolCallOperations#callForObjectList(String, List, ValueConverter)
+     */
+    <T> Flux<T> callForObjectList(String functionName, List<?> parameters, ValueConverter<Value, T> entityConverter);
+}
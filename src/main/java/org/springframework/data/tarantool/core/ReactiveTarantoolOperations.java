@@ -0,0 +1,334 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@link TarantoolOperations}. The operations are executed when the returned publisher is
+ * subscribed to. Selects are emitted page by page on demand, so the whole result is never held in memory.
+ * Implemented by {@link ReactiveTarantoolTemplate}.
+ *
+ * @see TarantoolOperations
+ */
+public interface ReactiveTarantoolOperations extends ReactiveTarantoolCallOperations {
+
+    /**
+     * Select the records matching the query and map them to the specified type. The records are fetched by pages
+     * when requested by the subscriber.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return converted objects
+     * @see TarantoolOperations#find(Conditions, Class)
+     */
+    <T> Flux<T> find(Conditions query, Class<T> entityType);
+
+    /**
+     * Select the records matching the query over the entity space and map them to the projections of the entity.
+     *
+     * @param <T>        entity type
+     * @param <R>        projection type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType entity class, defines the space and the mapping of the tuple fields
+     * @param resultType projection interface or DTO class
+     * @return projections
+     * @see TarantoolOperations#find(Conditions, Class, Class)
+     */
+    <T, R> Flux<R> find(Conditions query, Class<T> entityType, Class<R> resultType);
+
+    /**
+     * Map the first record matching the query to an object of the specified type.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return the converted object or empty
+     * @see TarantoolOperations#findOne(Conditions, Class)
+     */
+    <T> Mono<T> findOne(Conditions query, Class<T> entityType);
+
+    /**
+     * Get an entity by the given id and map it to an object of the given type.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Entity identifier
+     * @param entityType Desired type of the result object
+     * @return the converted object or empty
+     * @see TarantoolOperations#findById(Object, Class)
+     */
+    <T, ID> Mono<T> findById(ID id, Class<T> entityType);
+
+    /**
+     * Get the entities by the given ids keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Entity identifiers
+     * @param entityType Desired type of the result object
+     * @return the converted objects by id in the input order
+     * @see TarantoolOperations#findAllById(Collection, Class)
+     */
+    <T, ID> Mono<Map<ID, T>> findAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Get all entities from a space and map them to the specified type. The records are fetched by pages
+     * when requested by the subscriber.
+     *
+     * @param <T>        target entity type
+     * @param entityType Desired type of the result object
+     * @return converted objects
+     * @see TarantoolOperations#findAll(Class)
+     */
+    <T> Flux<T> findAll(Class<T> entityType);
+
+    /**
+     * Get all entities from a space in the order provided by an index. The records are fetched by pages when
+     * requested by the subscriber.
+     *
+     * @param <T>        target entity type
+     * @param sort       Requested order
+     * @param entityType Desired type of the result object
+     * @return converted objects
+     * @see TarantoolOperations#findAll(Sort, Class)
+     */
+    <T> Flux<T> findAll(Sort sort, Class<T> entityType);
+
+    /**
+     * Remove all entities matching the query and return them.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return removed objects
+     * @see TarantoolOperations#findAndRemove(Conditions, Class)
+     */
+    <T> Flux<T> findAndRemove(Conditions query, Class<T> entityType);
+
+    /**
+     * Count the number of records matching the specified query on the Tarantool side.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Entity class determining the space
+     * @return number of records
+     * @see TarantoolOperations#count(Conditions, Class)
+     */
+    <T> Mono<Long> count(Conditions query, Class<T> entityType);
+
+    /**
+     * Check if a record with the given id exists.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Entity identifier
+     * @param entityType Entity class determining the space
+     * @return true if the record exists
+     * @see TarantoolOperations#existsById(Object, Class)
+     */
+    <T, ID> Mono<Boolean> existsById(ID id, Class<T> entityType);
+
+    /**
+     * Check if any record matches the query.
+     *
+     * @param <T>        target entity type
+     * @param query      tuple selection conditions
+     * @param entityType Entity class determining the space
+     * @return true if a record exists
+     * @see TarantoolOperations#exists(Conditions, Class)
+     */
+    <T> Mono<Boolean> exists(Conditions query, Class<T> entityType);
+
+    /**
+     * Insert a record into a space. The space is determined automatically by the entity class.
+     *
+     * @param <T>        target entity type
+     * @param entity     The object to save
+     * @param entityType Desired type of the result object
+     * @return the inserted object
+     * @see TarantoolOperations#insert(Object, Class)
+     */
+    <T> Mono<T> insert(T entity, Class<T> entityType);
+
+    /**
+     * Save a record into a space. If the record doesn't exist, it will be inserted.
+     *
+     * @param <T>        target entity type
+     * @param entity     The object to save
+     * @param entityType Desired type of the result object
+     * @return the saved object
+     * @see TarantoolOperations#save(Object, Class)
+     */
+    <T> Mono<T> save(T entity, Class<T> entityType);
+
+    /**
+     * Insert the records into a space keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return the inserted objects in the input order
+     * @see TarantoolOperations#insertAll(Iterable, Class)
+     */
+    <T> Flux<T> insertAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Save the records into a space keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return the saved objects in the input order
+     * @see TarantoolOperations#saveAll(Iterable, Class)
+     */
+    <T> Flux<T> saveAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Update all records selected by the specified conditions.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @param entityClass target class of the result objects
+     * @param <T>         target entity type
+     * @return updated objects
+     * @see TarantoolOperations#update(Conditions, Object, Class)
+     */
+    <T> Flux<T> update(Conditions query, T entity, Class<T> entityClass);
+
+    /**
+     * Update all records selected by the specified conditions and count them.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return number of updated records
+     * @see TarantoolOperations#updateAll(Conditions, Object, Class)
+     */
+    <T> Mono<Long> updateAll(Conditions query, T entity, Class<T> entityClass);
+
+    /**
+     * Apply the field operations to the record with the specified id in one request.
+     *
+     * @param id          entity id
+     * @param update      field operations by the entity property names
+     * @param entityClass target class of the result object
+     * @param <T>         target entity type
+     * @param <ID>        target entity index type
+     * @return updated entity or empty if the record is not found
+     * @see TarantoolOperations#updateById(Object, TarantoolUpdate, Class)
+     */
+    <T, ID> Mono<T> updateById(ID id, TarantoolUpdate update, Class<T> entityClass);
+
+    /**
+     * Insert the entity or apply the field operations to the existing record in one request.
+     *
+     * @param entity      entity inserted if the record does not exist
+     * @param update      field operations by the entity property names applied to the existing record
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return completion signal
+     * @see TarantoolOperations#upsert(Object, TarantoolUpdate, Class)
+     */
+    <T> Mono<Void> upsert(T entity, TarantoolUpdate update, Class<T> entityClass);
+
+    /**
+     * Remove a record from a space corresponding to the specified entity type.
+     *
+     * @param <T>        target entity type
+     * @param entity     Target entity (must have the id property)
+     * @param entityType Desired type of the result object
+     * @return removed entity value
+     * @see TarantoolOperations#remove(Object, Class)
+     */
+    <T> Mono<T> remove(T entity, Class<T> entityType);
+
+    /**
+     * Remove a record from a space corresponding to the specified entity type.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Target entity ID
+     * @param entityType Desired type of the result object
+     * @return removed entity value
+     * @see TarantoolOperations#removeById(Object, Class)
+     */
+    <T, ID> Mono<T> removeById(ID id, Class<T> entityType);
+
+    /**
+     * Remove the records corresponding to the specified entities keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Desired type of the result object
+     * @return removed entity values in the input order
+     * @see TarantoolOperations#removeAll(Iterable, Class)
+     */
+    <T> Flux<T> removeAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs
+     * @param entityType Desired type of the result object
+     * @return removed entity values in the input order
+     * @see TarantoolOperations#removeAllById(Collection, Class)
+     */
+    <T, ID> Flux<T> removeAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Remove the records corresponding to the specified entities without converting them to entities.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Entity class determining the space
+     * @return number of removed records
+     * @see TarantoolOperations#deleteAll(Iterable, Class)
+     */
+    <T> Mono<Long> deleteAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids without converting them to entities.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs
+     * @param entityType Entity class determining the space
+     * @return number of removed records
+     * @see TarantoolOperations#deleteAllById(Collection, Class)
+     */
+    <T, ID> Mono<Long> deleteAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Truncate space (remove all data records in the space on each node where it persists).
+     *
+     * @param spaceName space name
+     * @return completion signal
+     * @see TarantoolOperations#truncate(String)
+     */
+    Mono<Void> truncate(String spaceName);
+
+    /**
+     * Getter for {@link TarantoolMappingContext}
+     *
+     * @return TarantoolMappingContext instance
+     */
+    TarantoolMappingContext getMappingContext();
+
+    /**
+     * Return the entity converter used for this instance
+     *
+     * @return entity converter
+     */
+    TarantoolConverter getConverter();
+}
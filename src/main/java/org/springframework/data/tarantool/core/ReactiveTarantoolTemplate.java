@@ -0,0 +1,349 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.value.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project Reactor based implementation of {@link ReactiveTarantoolOperations}. Shares the client, the mapping
+ * context and the converter with the wrapped {@link TarantoolTemplate}.
+ * <p>
+ * Selects are split into pages of {@link #setFetchSize(int) fetch size} tuples. The next page is requested from
+ * Tarantool only when the subscriber has consumed the previous one, and the tuples are mapped to entities one by one
+ * on demand.
+ */
+public class ReactiveTarantoolTemplate implements ReactiveTarantoolOperations {
+
+    private final TarantoolTemplate tarantoolTemplate;
+    private final TarantoolAsyncOperations asyncOperations;
+    private int fetchSize;
+
+    /**
+     * Create a reactive template backed by the given template
+     *
+     * @param tarantoolTemplate a {@link TarantoolTemplate} instance
+     */
+    public ReactiveTarantoolTemplate(TarantoolTemplate tarantoolTemplate) {
+        Assert.notNull(tarantoolTemplate, "TarantoolTemplate must not be null!");
+        this.tarantoolTemplate = tarantoolTemplate;
+        this.asyncOperations = tarantoolTemplate.async();
+        this.fetchSize = tarantoolTemplate.getFetchSize();
+    }
+
+    /**
+     * Set the number of tuples fetched from Tarantool in one select request. Defaults to the fetch size of the
+     * wrapped template.
+     *
+     * @param fetchSize positive number of tuples in a page
+     */
+    public void setFetchSize(int fetchSize) {
+        Assert.isTrue(fetchSize > 0, "Fetch size must be greater than 0");
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Return the number of tuples fetched from Tarantool in one select request
+     *
+     * @return fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public <T> Flux<T> find(Conditions query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        return Flux.defer(() -> {
+            TarantoolPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
+            TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space =
+                    tarantoolTemplate.space(entity.getSpaceName());
+            int pageSize = fetchSize;
+            return selectPage(space, query, null, pageSize)
+                    .expand(page -> page.isLast() ? Mono.empty() : selectPage(space, query, page, pageSize))
+                    .concatMapIterable(TuplePage::getTuples, 1)
+                    .map(tuple -> tarantoolTemplate.mapToEntity(tuple, entityClass));
+        });
+    }
+
+    @Override
+    public <T> Mono<T> findOne(Conditions query, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.findOne(query, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<T> findById(ID id, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.findById(id, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<Map<ID, T>> findAllById(Collection<ID> ids, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.findAllById(ids, entityClass));
+    }
+
+    @Override
+    public <T, R> Flux<R> find(Conditions query, Class<T> entityClass, Class<R> resultType) {
+        return Mono.fromFuture(() -> asyncOperations.find(query, entityClass, resultType))
+                .flatMapIterable(projections -> projections);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> entityClass) {
+        return find(Conditions.any(), entityClass);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Sort sort, Class<T> entityClass) {
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+
+        return Flux.defer(() -> {
+            Conditions query = tarantoolTemplate.sortedQuery(
+                    getMappingContext().getRequiredPersistentEntity(entityClass), sort);
+            if (query == null) {
+                return Mono.fromFuture(tarantoolTemplate.selectSortedOnClient(Conditions.any(), sort, entityClass))
+                        .flatMapIterable(entities -> entities);
+            }
+            return find(query, entityClass);
+        });
+    }
+
+    @Override
+    public <T> Flux<T> findAndRemove(Conditions query, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.findAndRemove(query, entityClass))
+                .flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T> Mono<Long> count(Conditions query, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.count(query, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<Boolean> existsById(ID id, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.existsById(id, entityClass));
+    }
+
+    @Override
+    public <T> Mono<Boolean> exists(Conditions query, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.exists(query, entityClass));
+    }
+
+    @Override
+    public <T> Mono<T> insert(T entity, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.insert(entity, entityClass));
+    }
+
+    @Override
+    public <T> Mono<T> save(T entity, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.save(entity, entityClass));
+    }
+
+    @Override
+    public <T> Flux<T> insertAll(Iterable<T> entities, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.insertAll(entities, entityClass))
+                .flatMapIterable(result -> result);
+    }
+
+    @Override
+    public <T> Flux<T> saveAll(Iterable<T> entities, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.saveAll(entities, entityClass))
+                .flatMapIterable(result -> result);
+    }
+
+    @Override
+    public <T> Flux<T> update(Conditions query, T entity, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.update(query, entity, entityClass))
+                .flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T> Mono<Long> updateAll(Conditions query, T entity, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.updateAll(query, entity, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<T> updateById(ID id, TarantoolUpdate update, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.updateById(id, update, entityClass));
+    }
+
+    @Override
+    public <T> Mono<Void> upsert(T entity, TarantoolUpdate update, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.upsert(entity, update, entityClass));
+    }
+
+    @Override
+    public <T> Mono<T> remove(T entity, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.remove(entity, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<T> removeById(ID id, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.removeById(id, entityClass));
+    }
+
+    @Override
+    public <T> Flux<T> removeAll(Iterable<T> entities, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.removeAll(entities, entityClass))
+                .flatMapIterable(result -> result);
+    }
+
+    @Override
+    public <T, ID> Flux<T> removeAllById(Collection<ID> ids, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.removeAllById(ids, entityClass))
+                .flatMapIterable(result -> result);
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Iterable<T> entities, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.deleteAll(entities, entityClass));
+    }
+
+    @Override
+    public <T, ID> Mono<Long> deleteAllById(Collection<ID> ids, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.deleteAllById(ids, entityClass));
+    }
+
+    @Override
+    public Mono<Void> truncate(String spaceName) {
+        return Mono.fromFuture(() -> asyncOperations.truncate(spaceName));
+    }
+
+    @Override
+    public <T> Mono<T> callForTuple(String functionName, List<?> parameters, String spaceName,
+                                    Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.callForTuple(functionName, parameters, spaceName, entityClass));
+    }
+
+    @Override
+    public <T> Mono<T> callForTuple(String functionName, List<?> parameters,
+                                    ValueConverter<Value, T> entityConverter) {
+        return Mono.fromFuture(() -> asyncOperations.callForTuple(functionName, parameters, entityConverter));
+    }
+
+    @Override
+    public <T> Flux<T> callForTupleList(String functionName, List<?> parameters, String spaceName,
+                                        Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.callForTupleList(functionName, parameters, spaceName,
+                entityClass)).flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T, R> Flux<R> callForTupleList(String functionName, List<?> parameters, String spaceName,
+                                           Class<T> entityClass, Class<R> resultType) {
+        return Mono.fromFuture(() -> asyncOperations.callForTupleList(functionName, parameters, spaceName,
+                entityClass, resultType)).flatMapIterable(projections -> projections);
+    }
+
+    @Override
+    public <T> Flux<T> callForTupleList(String functionName, List<?> parameters,
+                                        ValueConverter<Value, T> entityConverter) {
+        return Mono.fromFuture(() -> asyncOperations.callForTupleList(functionName, parameters, entityConverter))
+                .flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T> Mono<T> callForObject(String functionName, List<?> parameters,
+                                     ValueConverter<Value, T> entityConverter) {
+        return Mono.fromFuture(() -> asyncOperations.callForObject(functionName, parameters, entityConverter));
+    }
+
+    @Override
+    public <T> Mono<T> callForObject(String functionName, List<?> parameters, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.callForObject(functionName, parameters, entityClass));
+    }
+
+    @Override
+    public <T> Mono<T> callForObject(String functionName, List<?> parameters, Class<T> entityClass,
+                                     String spaceName) {
+        return Mono.fromFuture(() -> asyncOperations.callForObject(functionName, parameters, entityClass,
+                spaceName));
+    }
+
+    @Override
+    public <T> Flux<T> callForObjectList(String functionName, List<?> parameters, Class<T> entityClass) {
+        return Mono.fromFuture(() -> asyncOperations.callForObjectList(functionName, parameters, entityClass))
+                .flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T> Flux<T> callForObjectList(String functionName, List<?> parameters, Class<T> entityClass,
+                                         String spaceName) {
+        return Mono.fromFuture(() -> asyncOperations.callForObjectList(functionName, parameters, entityClass,
+                spaceName)).flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public <T> Flux<T> callForObjectList(String functionName, List<?> parameters,
+                                         ValueConverter<Value, T> entityConverter) {
+        return Mono.fromFuture(() -> asyncOperations.callForObjectList(functionName, parameters, entityConverter))
+                .flatMapIterable(entities -> entities);
+    }
+
+    @Override
+    public TarantoolMappingContext getMappingContext() {
+        return tarantoolTemplate.getMappingContext();
+    }
+
+    @Override
+    public TarantoolConverter getConverter() {
+        return tarantoolTemplate.getConverter();
+    }
+
+    private Mono<TuplePage> selectPage(TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> space,
+                                       Conditions query, @Nullable TuplePage previous, int pageSize) {
+        long fetched = previous == null ? 0 : previous.getFetched();
+        TarantoolTuple lastTuple = previous == null ? null : previous.getLastTuple();
+        Conditions pageQuery = tarantoolTemplate.nextPageQuery(space, query, lastTuple, fetched, pageSize);
+        if (pageQuery == null) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> tarantoolTemplate.executeAsync(() -> space.select(pageQuery)))
+                .map(tuples -> new TuplePage(tuples, fetched + tuples.size(), tuples.size() < pageQuery.getLimit()));
+    }
+
+    private static final class TuplePage {
+
+        private final List<TarantoolTuple> tuples;
+        private final long fetched;
+        private final boolean last;
+
+        private TuplePage(List<TarantoolTuple> tuples, long fetched, boolean last) {
+            this.tuples = tuples;
+            this.fetched = fetched;
+            this.last = last || tuples.isEmpty();
+        }
+
+        List<TarantoolTuple> getTuples() {
+            return tuples;
+        }
+
+        long getFetched() {
+            return fetched;
+        }
+
+        boolean isLast() {
+            return last;
+        }
+
+        TarantoolTuple getLastTuple() {
+            return tuples.get(tuples.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.springframework.data.tarantool.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight driver request between the concurrent identical reads. The first caller sends the request,
+ * the callers with the same key arriving before it is completed receive the same response. Each caller gets its own
+ * dependent future, so cancelling it at the caller deadline does not cancel the request for the others, and maps the
+ * response to its own entities. The requests arriving after the response are sent again.
+ */
+final class RequestCoalescer {
+
+    private final Map<List<?>, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Send the request or join the identical one in flight
+     *
+     * @param key     operation, space or function name and the request arguments
+     * @param request driver request
+     * @param <R>     response type
+     * @return future with the response
+     */
+    @SuppressWarnings("unchecked")
+    <R> CompletableFuture<R> execute(List<?> key, Supplier<CompletableFuture<R>> request) {
+        CompletableFuture<R> shared = new CompletableFuture<>();
+        CompletableFuture<R> existing = (CompletableFuture<R>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.thenApply(Function.identity());
+        }
+        try {
+            request.get().whenComplete((value, error) -> {
+                inFlight.remove(key, shared);
+                if (error != null) {
+                    shared.completeExceptionally(error);
+                } else {
+                    shared.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+        }
+        return shared.thenApply(Function.identity());
+    }
+
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+}
@@ -0,0 +1,109 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.mappers.CallResultMapper;
+import org.springframework.data.tarantool.repository.TarantoolSerializationType;
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the result mappers for stored function calls. Building a mapper creates the whole converter chain,
+ * so the mappers are reused for the same space metadata, target type and serialization type. The space metadata is
+ * compared by identity, so the mappers built for the metadata before a schema refresh are not matched after it.
+ * When the cache is full, an arbitrary mapper is evicted.
+ */
+final class ResultMapperCache {
+
+    private final int maxSize;
+    private final Map<Key, CallResultMapper<?, ?>> mappers = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ResultMapperCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the cached mapper or build and cache a new one
+     *
+     * @param spaceMetadata     space metadata the mapper is built for, may be null
+     * @param targetType        target type of the mapper result
+     * @param serializationType expected result structure
+     * @param factory           mapper factory
+     * @param <M>               mapper type
+     * @return result mapper
+     */
+    @SuppressWarnings("unchecked")
+    <M extends CallResultMapper<?, ?>> M get(@Nullable TarantoolSpaceMetadata spaceMetadata, Class<?> targetType,
+                                             TarantoolSerializationType serializationType, Supplier<M> factory) {
+        Key key = new Key(spaceMetadata, targetType, serializationType);
+        CallResultMapper<?, ?> mapper = mappers.get(key);
+        if (mapper != null) {
+            hits.increment();
+            return (M) mapper;
+        }
+        misses.increment();
+        M created = factory.get();
+        evictIfFull();
+        CallResultMapper<?, ?> previous = mappers.putIfAbsent(key, created);
+        return previous != null ? (M) previous : created;
+    }
+
+    private void evictIfFull() {
+        Iterator<Key> keys = mappers.keySet().iterator();
+        while (mappers.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    void invalidate() {
+        mappers.clear();
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    private static final class Key {
+        @Nullable
+        private final TarantoolSpaceMetadata spaceMetadata;
+        private final Class<?> targetType;
+        private final TarantoolSerializationType serializationType;
+
+        private Key(@Nullable TarantoolSpaceMetadata spaceMetadata, Class<?> targetType,
+                    TarantoolSerializationType serializationType) {
+            this.spaceMetadata = spaceMetadata;
+            this.targetType = targetType;
+            this.serializationType = serializationType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return spaceMetadata == other.spaceMetadata && targetType.equals(other.targetType) &&
+                    serializationType == other.serializationType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(spaceMetadata), targetType, serializationType);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Space metadata and space operations resolved from the client by the space names of the entities. The client looks
+ * the metadata up on each call, while the template needs it for each written tuple and each result mapper. The cache
+ * is dropped as a whole when the schema is refreshed; the lookups racing with the invalidation fill the dropped
+ * generation, so the stale metadata is not published. The absent spaces are not cached.
+ * <p>
+ * The driver replaces the metadata objects when it reloads the schema, either on request or on its own schedule, and
+ * does not notify about it. So the cached metadata of a space is compared by identity with the metadata of the client
+ * at most once a second, and the cache is dropped if the client has different metadata.
+ */
+final class SpaceMetadataCache {
+
+    private static final long REVALIDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient;
+    private volatile Generation generation = new Generation();
+
+    SpaceMetadataCache(TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient) {
+        this.tarantoolClient = tarantoolClient;
+    }
+
+    /**
+     * Return the metadata of the space
+     *
+     * @param spaceName space name
+     * @return space metadata or empty if the client has no metadata for the space
+     */
+    Optional<TarantoolSpaceMetadata> getSpaceMetadata(String spaceName) {
+        Generation current = generation;
+        CachedMetadata cached = current.metadata.get(spaceName);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.validatedAt < REVALIDATE_INTERVAL_NANOS) {
+            return Optional.of(cached.spaceMetadata);
+        }
+        Optional<TarantoolSpaceMetadata> resolved = tarantoolClient.metadata().getSpaceByName(spaceName);
+        if (cached != null) {
+            if (resolved.isPresent() && resolved.get() == cached.spaceMetadata) {
+                cached.validatedAt = now;
+                return resolved;
+            }
+            current = replace(current);
+        }
+        Map<String, CachedMetadata> metadata = current.metadata;
+        resolved.ifPresent(value -> metadata.putIfAbsent(spaceName, new CachedMetadata(value, now)));
+        return resolved;
+    }
+
+    /**
+     * Return the operations of the space
+     *
+     * @param spaceName space name
+     * @return space operations
+     */
+    TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> getSpace(String spaceName) {
+        getSpaceMetadata(spaceName);
+        return generation.spaces.computeIfAbsent(spaceName, tarantoolClient::space);
+    }
+
+    /**
+     * Drop the resolved metadata, e.g. after the schema was changed
+     */
+    void invalidate() {
+        generation = new Generation();
+    }
+
+    /**
+     * Drop the generation unless it has already been replaced by a concurrent call
+     *
+     * @param stale generation with the outdated metadata
+     * @return the current generation
+     */
+    private synchronized Generation replace(Generation stale) {
+        if (generation == stale) {
+            generation = new Generation();
+        }
+        return generation;
+    }
+
+    private static final class CachedMetadata {
+        private final TarantoolSpaceMetadata spaceMetadata;
+        private volatile long validatedAt;
+
+        private CachedMetadata(TarantoolSpaceMetadata spaceMetadata, long validatedAt) {
+            this.spaceMetadata = spaceMetadata;
+            this.validatedAt = validatedAt;
+        }
+    }
+
+    private static final class Generation {
+        private final Map<String, CachedMetadata> metadata = new ConcurrentHashMap<>();
+        private final Map<String, TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>>> spaces =
+                new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,342 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link TarantoolOperations}. None of the methods waits for the Tarantool response, the
+ * results are mapped to entities when the driver request is completed. Driver errors are translated with
+ * {@link TarantoolExceptionTranslator} and the returned futures are completed exceptionally with the translated
+ * exception. Obtained via {@link TarantoolOperations#async()}.
+ *
+ * @see TarantoolOperations
+ */
+public interface TarantoolAsyncOperations extends TarantoolAsyncCallOperations {
+
+    /**
+     * Map the results of a query over a space for the entity class to a List of the specified type.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return future with the list of converted objects
+     * @see TarantoolOperations#find(Conditions, Class)
+     */
+    <T> CompletableFuture<List<T>> find(Conditions query, Class<T> entityType);
+
+    /**
+     * Select the records matching the query over the entity space and map them to the projections of the entity.
+     *
+     * @param <T>        entity type
+     * @param <R>        projection type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType entity class, defines the space and the mapping of the tuple fields
+     * @param resultType projection interface or DTO class
+     * @return future with the list of projections
+     * @see TarantoolOperations#find(Conditions, Class, Class)
+     */
+    <T, R> CompletableFuture<List<R>> find(Conditions query, Class<T> entityType, Class<R> resultType);
+
+    /**
+     * Map the results of a query over a space for the entity class to a single instance of an object of the
+     * specified type.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return future with the converted object or null
+     * @see TarantoolOperations#findOne(Conditions, Class)
+     */
+    <T> CompletableFuture<T> findOne(Conditions query, Class<T> entityType);
+
+    /**
+     * Get an entity by the given id and map it to an object of the given type.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Entity identifier
+     * @param entityType Desired type of the result object
+     * @return future with the converted object or null
+     * @see TarantoolOperations#findById(Object, Class)
+     */
+    <T, ID> CompletableFuture<T> findById(ID id, Class<T> entityType);
+
+    /**
+     * Get the entities by the given ids keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Entity identifiers
+     * @param entityType Desired type of the result object
+     * @return future with the converted objects by id in the input order
+     * @see TarantoolOperations#findAllById(Collection, Class)
+     */
+    <T, ID> CompletableFuture<Map<ID, T>> findAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Get all entities from a space and map them to a List of specified type.
+     *
+     * @param <T>        target entity type
+     * @param entityType Desired type of the result object
+     * @return future with the list of converted objects
+     * @see TarantoolOperations#findAll(Class)
+     */
+    <T> CompletableFuture<List<T>> findAll(Class<T> entityType);
+
+    /**
+     * Get all entities from a space in the order provided by an index.
+     *
+     * @param <T>        target entity type
+     * @param sort       Requested order
+     * @param entityType Desired type of the result object
+     * @return future with the list of converted objects
+     * @see TarantoolOperations#findAll(Sort, Class)
+     */
+    <T> CompletableFuture<List<T>> findAll(Sort sort, Class<T> entityType);
+
+    /**
+     * Get a page of entities from a space.
+     *
+     * @param <T>        target entity type
+     * @param pageable   Page request
+     * @param entityType Desired type of the result object
+     * @return future with the slice of converted objects
+     * @see TarantoolOperations#findAll(Pageable, Class)
+     */
+    <T> CompletableFuture<Slice<T>> findAll(Pageable pageable, Class<T> entityType);
+
+    /**
+     * Get a page of the records matching the query.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param pageable   Page request
+     * @param entityType Desired type of the result object
+     * @return future with the slice of converted objects
+     * @see TarantoolOperations#find(Conditions, Pageable, Class)
+     */
+    <T> CompletableFuture<Slice<T>> find(Conditions query, Pageable pageable, Class<T> entityType);
+
+    /**
+     * Remove all entities matching the query and return them.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return future with the list of removed objects
+     * @see TarantoolOperations#findAndRemove(Conditions, Class)
+     */
+    <T> CompletableFuture<List<T>> findAndRemove(Conditions query, Class<T> entityType);
+
+    /**
+     * Count the number of records matching the specified query on the Tarantool side.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Entity class determining the space
+     * @return future with the number of records
+     * @see TarantoolOperations#count(Conditions, Class)
+     */
+    <T> CompletableFuture<Long> count(Conditions query, Class<T> entityType);
+
+    /**
+     * Check if a record with the given id exists.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Entity identifier
+     * @param entityType Entity class determining the space
+     * @return future with true if the record exists
+     * @see TarantoolOperations#existsById(Object, Class)
+     */
+    <T, ID> CompletableFuture<Boolean> existsById(ID id, Class<T> entityType);
+
+    /**
+     * Check if any record matches the query.
+     *
+     * @param <T>        target entity type
+     * @param query      tuple selection conditions
+     * @param entityType Entity class determining the space
+     * @return future with true if a record exists
+     * @see TarantoolOperations#exists(Conditions, Class)
+     */
+    <T> CompletableFuture<Boolean> exists(Conditions query, Class<T> entityType);
+
+    /**
+     * Insert a record into a space. The space is determined automatically by the entity class.
+     *
+     * @param <T>        target entity type
+     * @param entity     The object to save
+     * @param entityType Desired type of the result object
+     * @return future with the inserted object
+     * @see TarantoolOperations#insert(Object, Class)
+     */
+    <T> CompletableFuture<T> insert(T entity, Class<T> entityType);
+
+    /**
+     * Save a record into a space. If the record doesn't exist, it will be inserted.
+     *
+     * @param <T>        target entity type
+     * @param entity     The object to save
+     * @param entityType Desired type of the result object
+     * @return future with the saved object
+     * @see TarantoolOperations#save(Object, Class)
+     */
+    <T> CompletableFuture<T> save(T entity, Class<T> entityType);
+
+    /**
+     * Insert the records into a space keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return future with the inserted objects in the input order
+     * @see TarantoolOperations#insertAll(Iterable, Class)
+     */
+    <T> CompletableFuture<List<T>> insertAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Save the records into a space keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return future with the saved objects in the input order
+     * @see TarantoolOperations#saveAll(Iterable, Class)
+     */
+    <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Update all records selected by the specified conditions.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @param entityClass target class of the result objects
+     * @param <T>         target entity type
+     * @return future with the list of updated objects
+     * @see TarantoolOperations#update(Conditions, Object, Class)
+     */
+    <T> CompletableFuture<List<T>> update(Conditions query, T entity, Class<T> entityClass);
+
+    /**
+     * Update all records selected by the specified conditions and count them.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future with the number of updated records
+     * @see TarantoolOperations#updateAll(Conditions, Object, Class)
+     */
+    <T> CompletableFuture<Long> updateAll(Conditions query, T entity, Class<T> entityClass);
+
+    /**
+     * Apply the field operations to the record with the specified id in one request.
+     *
+     * @param id          entity id
+     * @param update      field operations by the entity property names
+     * @param entityClass target class of the result object
+     * @param <T>         target entity type
+     * @param <ID>        target entity index type
+     * @return future with the updated entity or null if the record is not found
+     * @see TarantoolOperations#updateById(Object, TarantoolUpdate, Class)
+     */
+    <T, ID> CompletableFuture<T> updateById(ID id, TarantoolUpdate update, Class<T> entityClass);
+
+    /**
+     * Insert the entity or apply the field operations to the existing record in one request.
+     *
+     * @param entity      entity inserted if the record does not exist
+     * @param update      field operations by the entity property names applied to the existing record
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return future completed when the record is written
+     * @see TarantoolOperations#upsert(Object, TarantoolUpdate, Class)
+     */
+    <T> CompletableFuture<Void> upsert(T entity, TarantoolUpdate update, Class<T> entityClass);
+
+    /**
+     * Remove a record from a space corresponding to the specified entity type.
+     *
+     * @param <T>        target entity type
+     * @param entity     Target entity (must have the id property)
+     * @param entityType Desired type of the result object
+     * @return future with the removed entity value
+     * @see TarantoolOperations#remove(Object, Class)
+     */
+    <T> CompletableFuture<T> remove(T entity, Class<T> entityType);
+
+    /**
+     * Remove a record from a space corresponding to the specified entity type.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Target entity ID
+     * @param entityType Desired type of the result object
+     * @return future with the removed entity value
+     * @see TarantoolOperations#removeById(Object, Class)
+     */
+    <T, ID> CompletableFuture<T> removeById(ID id, Class<T> entityType);
+
+    /**
+     * Remove the records corresponding to the specified entities keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Desired type of the result object
+     * @return future with the removed entity values in the input order
+     * @see TarantoolOperations#removeAll(Iterable, Class)
+     */
+    <T> CompletableFuture<List<T>> removeAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids keeping a bounded number of requests in flight.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs
+     * @param entityType Desired type of the result object
+     * @return future with the removed entity values in the input order
+     * @see TarantoolOperations#removeAllById(Collection, Class)
+     */
+    <T, ID> CompletableFuture<List<T>> removeAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Remove the records corresponding to the specified entities without converting them to entities.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Entity class determining the space
+     * @return future with the number of removed records
+     * @see TarantoolOperations#deleteAll(Iterable, Class)
+     */
+    <T> CompletableFuture<Long> deleteAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids without converting them to entities.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs
+     * @param entityType Entity class determining the space
+     * @return future with the number of removed records
+     * @see TarantoolOperations#deleteAllById(Collection, Class)
+     */
+    <T, ID> CompletableFuture<Long> deleteAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Truncate space (remove all data records in the space on each node where it persists).
+     *
+     * @param spaceName space name
+     * @return future completed when the space is truncated
+     * @see TarantoolOperations#truncate(String)
+     */
+    CompletableFuture<Void> truncate(String spaceName);
+}
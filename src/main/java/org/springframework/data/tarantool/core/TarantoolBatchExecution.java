@@ -0,0 +1,107 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.data.tarantool.exceptions.TarantoolBatchOperationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Dispatches an asynchronous operation for each item of a batch keeping at most the specified number of operations
+ * in flight. The next item is dispatched when one of the operations in flight is completed. The results are collected
+ * in the batch order; if some operations fail, the returned future is completed with
+ * {@link TarantoolBatchOperationException} holding the results and the errors by position.
+ *
+ * @param <S> batch item type
+ * @param <R> operation result type
+ */
+final class TarantoolBatchExecution<S, R> {
+
+    private final List<? extends S> items;
+    private final Function<? super S, CompletableFuture<R>> operation;
+    private final Function<Throwable, ? extends Throwable> errorTranslator;
+    private final AtomicReferenceArray<R> results;
+    private final Map<Integer, Throwable> errors = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger requested = new AtomicInteger();
+    private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+    TarantoolBatchExecution(List<? extends S> items,
+                            Function<? super S, CompletableFuture<R>> operation,
+                            Function<Throwable, ? extends Throwable> errorTranslator) {
+        this.items = items;
+        this.operation = operation;
+        this.errorTranslator = errorTranslator;
+        this.results = new AtomicReferenceArray<>(items.size());
+    }
+
+    /**
+     * Start the batch execution
+     *
+     * @param maxInFlight maximum number of operations in flight
+     * @return future completed when all operations are completed
+     */
+    CompletableFuture<List<R>> execute(int maxInFlight) {
+        if (items.isEmpty()) {
+            result.complete(Collections.emptyList());
+        } else {
+            request(Math.min(maxInFlight, items.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Dispatch the specified number of items. The operations completed in the calling thread request the next items
+     * re-entrantly, so the dispatching is done in a loop here instead of recursion.
+     */
+    private void request(int count) {
+        if (requested.getAndAdd(count) != 0) {
+            return;
+        }
+        int missed = count;
+        do {
+            for (int i = 0; i < missed; i++) {
+                dispatchNext();
+            }
+            missed = requested.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void dispatchNext() {
+        int index = nextIndex.getAndIncrement();
+        if (index >= items.size()) {
+            return;
+        }
+        operation.apply(items.get(index)).whenComplete((value, error) -> {
+            if (error != null) {
+                errors.put(index, errorTranslator.apply(error));
+            } else {
+                results.set(index, value);
+            }
+            if (completed.incrementAndGet() == items.size()) {
+                complete();
+            } else {
+                request(1);
+            }
+        });
+    }
+
+    private void complete() {
+        List<R> values = new ArrayList<>(results.length());
+        for (int i = 0; i < results.length(); i++) {
+            values.add(results.get(i));
+        }
+        if (errors.isEmpty()) {
+            result.complete(values);
+        } else {
+            result.completeExceptionally(new TarantoolBatchOperationException(values, errors));
+        }
+    }
+}
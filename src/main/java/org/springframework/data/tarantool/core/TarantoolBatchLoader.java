@@ -0,0 +1,160 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loader collecting the independent lookups of entities by id, e.g. made by GraphQL resolvers, into batches. The ids
+ * requested within the batch window are fetched with one {@link TarantoolAsyncOperations#findAllById} call, which
+ * sends the selects back-to-back, and the future of each lookup is completed with its entity. A batch is dispatched
+ * when the window elapses after its first id, when it collects the maximum number of ids or when
+ * {@link #dispatch()} is called. The lookups of the same id within a batch receive the same entity instance.
+ * <p>
+ * Example:
+ * <pre>
+ * TarantoolBatchLoader&lt;Book, Integer&gt; books =
+ *         new TarantoolBatchLoader&lt;&gt;(tarantoolTemplate, Book.class, Duration.ofMillis(2), 100);
+ * CompletableFuture&lt;Book&gt; book = books.load(1);
+ * </pre>
+ *
+ * @param <T>  entity type
+ * @param <ID> entity identifier type
+ */
+public final class TarantoolBatchLoader<T, ID> {
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final TarantoolOperations operations;
+    private final Class<T> entityClass;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private Map<ID, List<CompletableFuture<T>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    /**
+     * Create a loader of the entities of the specified class
+     *
+     * @param operations   template for fetching the entities
+     * @param entityClass  entity class
+     * @param window       time for collecting the ids after the first id of a batch is requested
+     * @param maxBatchSize number of ids starting from which a batch is dispatched without waiting for the window
+     */
+    public TarantoolBatchLoader(TarantoolOperations operations, Class<T> entityClass, Duration window,
+                                int maxBatchSize) {
+        Assert.notNull(operations, "Operations must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(window, "Window must not be null!");
+        Assert.isTrue(!window.isNegative() && !window.isZero(), "Window must be positive");
+        Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+        this.operations = operations;
+        this.entityClass = entityClass;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "TarantoolBatchLoaderTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Request the entity by id with the next batch
+     *
+     * @param id entity identifier
+     * @return future with the entity or null if it is not found
+     */
+    public CompletableFuture<T> load(ID id) {
+        Assert.notNull(id, "Id must not be null!");
+
+        loads.increment();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Map<ID, List<CompletableFuture<T>>> batch = null;
+        synchronized (this) {
+            pending.computeIfAbsent(id, key -> new ArrayList<>(1)).add(result);
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = TIMER.schedule((Runnable) this::dispatch, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return result;
+    }
+
+    /**
+     * Dispatch the collected ids without waiting for the window
+     */
+    public void dispatch() {
+        Map<ID, List<CompletableFuture<T>>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Return the number of fetches sent to Tarantool
+     *
+     * @return batches number
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Return the number of requested entities
+     *
+     * @return lookups number
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    private Map<ID, List<CompletableFuture<T>>> takePending() {
+        Map<ID, List<CompletableFuture<T>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<ID, List<CompletableFuture<T>>> batch) {
+        batches.increment();
+        operations.async().findAllById(batch.keySet(), entityClass).whenComplete((found, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                    error.getCause() : error;
+            batch.forEach((id, callers) -> callers.forEach(caller -> {
+                if (cause != null) {
+                    caller.completeExceptionally(cause);
+                } else {
+                    caller.complete(found.get(id));
+                }
+            }));
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package org.springframework.data.tarantool.core;
+
+/**
+ * Snapshot of the near cache counters of an entity
+ *
+ * @see org.springframework.data.tarantool.core.mapping.TarantoolCache
+ */
+public final class TarantoolCacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    TarantoolCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Return the number of lookups returning a cached record
+     *
+     * @return hits number
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Return the number of lookups sent to Tarantool
+     *
+     * @return misses number
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Return the number of records evicted because of the size limit or expired
+     *
+     * @return evictions number
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Return the number of cached records
+     *
+     * @return cache size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolCacheStatistics{hits=" + hitCount + ", misses=" + missCount +
+                ", evictions=" + evictionCount + ", size=" + size + "}";
+    }
+}
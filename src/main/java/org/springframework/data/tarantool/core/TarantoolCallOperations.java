@@ -350,6 +350,25 @@ public interface TarantoolCallOperations {
     @Nullable
     <T> List<T> callForTupleList(String functionName, List<?> parameters, String spaceName, Class<T> entityType);
 
+    /**
+     * Call a function defined in Tarantool instance API which returns a list of tuples of the entity space and map
+     * them to the projections of the entity. The interface and DTO projections are read straight from the tuples
+     * without instantiating the entities, only the fields used by the projection are converted.
+     *
+     * @param <T>          entity type
+     * @param <R>          projection type
+     * @param functionName callable API function name
+     * @param parameters   function parameters
+     * @param spaceName    space name in Tarantool instance
+     * @param entityType   entity class, defines the mapping of the tuple fields
+     * @param resultType   projection interface or DTO class
+     * @return function call result
+     * @see #callForTupleList(String, List, String, Class)
+     */
+    @Nullable
+    <T, R> List<R> callForTupleList(String functionName, List<?> parameters, String spaceName, Class<T> entityType,
+                                    Class<R> resultType);
+
     /**
      * Call a function defined in Tarantool instance API which returns a list of MessagePack values as result. The given
      * entity converter will be used for converting each value in the result into an entity.
@@ -0,0 +1,99 @@
+package org.springframework.data.tarantool.core;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for the client-side work of {@link TarantoolTemplate}, like converting the selected tuples to entities
+ * and processing the results of the fan-out operations. The work is moved off the network threads of the Tarantool
+ * client. The strategy reports the number of tasks waiting for execution and the number of tasks being executed.
+ */
+public interface TarantoolExecutionStrategy extends Executor {
+
+    /**
+     * Return the number of tasks submitted and not started yet
+     *
+     * @return queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Return the number of tasks being executed
+     *
+     * @return active workers number
+     */
+    int getActiveWorkers();
+
+    /**
+     * Return the number of completed tasks
+     *
+     * @return completed tasks number
+     */
+    long getCompletedTasks();
+
+    /**
+     * Stop accepting new tasks and release the threads after the submitted tasks are completed
+     */
+    void shutdown();
+
+    /**
+     * Create a strategy executing the tasks on a fixed pool of platform daemon threads
+     *
+     * @param threads number of threads
+     * @return new strategy instance
+     */
+    static TarantoolExecutionStrategy platformThreads(int threads) {
+        Assert.isTrue(threads > 0, "Threads number must be greater than 0");
+        AtomicLong id = new AtomicLong();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "TarantoolTemplateQueryExecutor-" + id.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return of(new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory));
+    }
+
+    /**
+     * Create a strategy starting a new virtual thread for each task. Requires JDK 21 or newer.
+     *
+     * @return new strategy instance
+     * @throws IllegalStateException if virtual threads are not supported by the JDK
+     */
+    static TarantoolExecutionStrategy virtualThreads() {
+        try {
+            return of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are supported since JDK 21", e);
+        }
+    }
+
+    /**
+     * Create a strategy executing the tasks in the thread completing the Tarantool request, i.e. without
+     * switching threads
+     *
+     * @return new strategy instance
+     */
+    static TarantoolExecutionStrategy callerRuns() {
+        return new DefaultTarantoolExecutionStrategy(null);
+    }
+
+    /**
+     * Create a strategy executing the tasks with the specified executor service
+     *
+     * @param executorService executor service, it is shut down with the strategy
+     * @return new strategy instance
+     */
+    static TarantoolExecutionStrategy of(ExecutorService executorService) {
+        Assert.notNull(executorService, "Executor service must not be null!");
+        return new DefaultTarantoolExecutionStrategy(executorService);
+    }
+}
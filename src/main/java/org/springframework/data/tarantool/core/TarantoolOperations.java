@@ -1,11 +1,23 @@
 package org.springframework.data.tarantool.core;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.query.TarantoolPageRequest;
+import org.springframework.data.tarantool.exceptions.TarantoolBatchOperationException;
 import org.springframework.lang.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Interface that specifies a set extensions of Tarantool operations. Implemented by {@link BaseTarantoolTemplate}.
@@ -27,6 +39,21 @@ public interface TarantoolOperations extends TarantoolCallOperations {
      */
     <T> List<T> find(Conditions query, Class<T> entityType);
 
+    /**
+     * Select the records matching the query over the entity space and map them to the projections of the entity.
+     * The interface and DTO projections are read straight from the tuples without instantiating the entities. When
+     * the space is accessed through the cartridge router, only the fields used by the projection are selected, which
+     * saves the network bandwidth and the decoding time for the wide tuples.
+     *
+     * @param <T>        entity type
+     * @param <R>        projection type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType entity class, defines the space and the mapping of the tuple fields
+     * @param resultType projection interface or DTO class
+     * @return The list of projections
+     */
+    <T, R> List<R> find(Conditions query, Class<T> entityType, Class<R> resultType);
+
     /**
      * Map the results of a query over a space for the entity class to a single instance of an object of the
      * specified type. Target space will be derived automatically from the entity class.
@@ -54,6 +81,19 @@ public interface TarantoolOperations extends TarantoolCallOperations {
     @Nullable
     <T, ID> T findById(ID id, Class<T> entityType);
 
+    /**
+     * Get the entities by the given ids and map them to objects of the given type. The select requests for all ids
+     * are sent without waiting for the previous ones to complete, at most
+     * {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests are in flight at once.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Entity identifiers
+     * @param entityType Desired type of the result object
+     * @return The converted objects by id in the input order, the ids not found are omitted
+     */
+    <T, ID> Map<ID, T> findAllById(Collection<ID> ids, Class<T> entityType);
+
     /**
      * Get all entities from a space and map them to a List of specified type. The space is determined automatically
      * from the entity class.
@@ -65,6 +105,73 @@ public interface TarantoolOperations extends TarantoolCallOperations {
      */
     <T> List<T> findAll(Class<T> entityType);
 
+    /**
+     * Get all entities from a space in the specified order. If the leading parts of a TREE index of the space match
+     * the sort properties and all of them have the same direction, the order is provided by the index. Otherwise the
+     * records are sorted on the client side, which is limited by {@link TarantoolTemplate#getMaxClientSortSize()}.
+     *
+     * @param <T>        target entity type
+     * @param sort       Requested order
+     * @param entityType Desired type of the result object
+     * @return The list of converted objects
+     * @throws InvalidDataAccessApiUsageException if the records have to be sorted on the client side and there are
+     *                                            too many of them
+     */
+    <T> List<T> findAll(Sort sort, Class<T> entityType);
+
+    /**
+     * Get a page of entities from a space. The page is selected in the order of the sort of the pageable as in
+     * {@link #findAll(Sort, Class)}.
+     *
+     * @param <T>        target entity type
+     * @param pageable   Page request
+     * @param entityType Desired type of the result object
+     * @return The slice of converted objects
+     * @see #find(Conditions, Pageable, Class)
+     */
+    <T> Slice<T> findAll(Pageable pageable, Class<T> entityType);
+
+    /**
+     * Get a page of the records matching the query. The limit and the offset of the query are replaced by the
+     * page ones. If the pageable is the {@link TarantoolPageRequest} returned by
+     * {@link Slice#nextPageable()}, the page is selected after the last record of the previous slice, otherwise
+     * the records before the page are skipped by offset. The number of records is not counted, one extra record
+     * is selected for determining if there is the next page.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param pageable   Page request, the matching records are sorted on the client side if the query has
+     *                   conditions or no index matches the sort
+     * @param entityType Desired type of the result object
+     * @return The slice of converted objects
+     * @throws InvalidDataAccessApiUsageException if the records have to be sorted on the client side and there are
+     *                                            too many of them
+     */
+    <T> Slice<T> find(Conditions query, Pageable pageable, Class<T> entityType);
+
+    /**
+     * Select the records matching the query and map them to the specified type lazily. The records are fetched
+     * from the space by pages of {@link TarantoolTemplate#setFetchSize(int)} tuples when the stream is consumed,
+     * the next page is requested while the current one is processed. The stream must be closed if it is not
+     * consumed completely.
+     *
+     * @param <T>        target entity type
+     * @param query      Query object that encapsulates the search criteria
+     * @param entityType Desired type of the result object
+     * @return The stream of converted objects
+     */
+    <T> Stream<T> stream(Conditions query, Class<T> entityType);
+
+    /**
+     * Get all entities from a space lazily as in {@link #stream(Conditions, Class)}. The space is determined
+     * automatically from the entity class.
+     *
+     * @param <T>        target entity type
+     * @param entityType Desired type of the result object
+     * @return The stream of converted objects
+     */
+    <T> Stream<T> streamAll(Class<T> entityType);
+
     /**
      * Map the results of a query over a space for the entity class to a List of the specified type. All entities
      * found are returned and removed from the space. Target space will be derived automatically from the entity class.
@@ -80,7 +187,10 @@ public interface TarantoolOperations extends TarantoolCallOperations {
 
     /**
      * Count the number of records matching the specified query. The space is determined automatically
-     * from the entity class.
+     * from the entity class. The records are counted on the Tarantool side with {@code crud.count} for the spaces
+     * accessed via the proxy API and with the index {@code count} for the other spaces. The number of all records
+     * ({@link Conditions#any()}) is taken from the space length ({@code crud.len} or {@code space:len()}).
+     * The limit and the offset of the query are applied to the number.
      *
      * @param <T>        target entity type
      * @param query      Query object that encapsulates the search criteria
@@ -89,6 +199,29 @@ public interface TarantoolOperations extends TarantoolCallOperations {
      */
     <T> Long count(Conditions query, Class<T> entityType);
 
+    /**
+     * Check if a record with the given id exists. The records are counted by the primary key, so the record is not
+     * transferred and converted to an entity.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param id         Entity identifier
+     * @param entityType Entity class determining the space
+     * @return true if the record exists
+     */
+    <T, ID> boolean existsById(ID id, Class<T> entityType);
+
+    /**
+     * Check if any record matches the query. At most one record is selected, and only its primary key is transferred
+     * if the space is accessed via the cartridge router. The record is not converted to an entity.
+     *
+     * @param <T>        target entity type
+     * @param query      tuple selection conditions
+     * @param entityType Entity class determining the space
+     * @return true if a record exists
+     */
+    <T> boolean exists(Conditions query, Class<T> entityType);
+
     /**
      * Insert a record into a space. The space is determined automatically by the entity class.
      *
@@ -112,10 +245,44 @@ public interface TarantoolOperations extends TarantoolCallOperations {
     @Nullable
     <T> T save(T entity, Class<T> entityType);
 
+    /**
+     * Insert the records into a space. The space is determined automatically by the entity class. The insert
+     * requests are sent without waiting for the previous ones to complete, at most
+     * {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests are in flight at once.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return The inserted objects in the input order
+     * @throws TarantoolBatchOperationException if some of the records are not inserted
+     */
+    <T> List<T> insertAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Save the records into a space. The space is determined automatically by the entity class. If a record doesn't
+     * exist, it will be inserted. The requests are sent without waiting for the previous ones to complete, at most
+     * {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests are in flight at once.
+     *
+     * @param <T>        target entity type
+     * @param entities   The objects to save
+     * @param entityType Desired type of the result object
+     * @return The saved objects in the input order
+     * @throws TarantoolBatchOperationException if some of the records are not saved
+     */
+    <T> List<T> saveAll(Iterable<T> entities, Class<T> entityType);
+
     /**
      * Update all records selected by the specified conditions. The space is determined automatically by the
-     * entity class. Warning: executing this operation on a large data set may cause OutOfMemory error or take
-     * significant time to complete.
+     * entity class. The conditions and the non-null fields of the entity are sent to Tarantool in one request, and
+     * the records are selected and updated on the server side: with the crud module on the router for the spaces
+     * accessed via the proxy API, in one transaction for the other spaces. On the router the matching records are
+     * selected page by page and then updated by the primary key one by one, so the update is not atomic: if updating
+     * a record fails, the error is thrown, the records updated before stay updated and the rest are not updated. If
+     * the request is not permitted for the space or the crud module is not available, the records are selected and
+     * updated by the primary key with at most {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests in
+     * flight, with the same partial failure behavior. Warning: all updated records are
+     * returned, executing this operation on a large data set may cause OutOfMemory error, use
+     * {@link #updateAll(Conditions, Object, Class)} if the updated records are not needed.
      *
      * @param query       tuple selection conditions
      * @param entity      entity with new data for update
@@ -125,6 +292,44 @@ public interface TarantoolOperations extends TarantoolCallOperations {
      */
     <T> List<T> update(Conditions query, T entity, Class<T> entityClass);
 
+    /**
+     * Update all records selected by the specified conditions as {@link #update(Conditions, Object, Class)} does,
+     * but return only the number of updated records without transferring and converting them.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     * @return number of updated records
+     */
+    <T> long updateAll(Conditions query, T entity, Class<T> entityClass);
+
+    /**
+     * Apply the field operations to the record with the specified id on the Tarantool side in one request, without
+     * reading the record first. Use it instead of {@code findById} and {@code save} for incrementing counters or
+     * changing single fields, which also avoids losing the concurrent changes.
+     *
+     * @param id          entity id
+     * @param update      field operations by the entity property names
+     * @param entityClass target class of the result object
+     * @param <T>         target entity type
+     * @param <ID>        target entity index type
+     * @return updated entity or null if the record is not found
+     */
+    @Nullable
+    <T, ID> T updateById(ID id, TarantoolUpdate update, Class<T> entityClass);
+
+    /**
+     * Insert the entity if the record with its id does not exist, otherwise apply the field operations to the
+     * existing record, in one request. Tarantool does not return the resulting record.
+     *
+     * @param entity      entity inserted if the record does not exist
+     * @param update      field operations by the entity property names applied to the existing record
+     * @param entityClass entity class
+     * @param <T>         target entity type
+     */
+    <T> void upsert(T entity, TarantoolUpdate update, Class<T> entityClass);
+
     /**
      * Remove a record from a space corresponding to the specified entity type.
      *
@@ -148,6 +353,78 @@ public interface TarantoolOperations extends TarantoolCallOperations {
     @Nullable
     <T, ID> T removeById(ID id, Class<T> entityType);
 
+    /**
+     * Remove the records corresponding to the specified entities. The delete requests are sent without waiting for
+     * the previous ones to complete, at most {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests are in
+     * flight at once.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Desired type of the result object
+     * @return Removed entity values in the input order, the entities not found are omitted
+     * @throws TarantoolBatchOperationException if some of the records are not removed
+     */
+    <T> List<T> removeAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids. The delete requests are sent without waiting for the previous ones
+     * to complete, at most {@link TarantoolTemplate#setMaxInFlightRequests(int)} requests are in flight at once.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs, the duplicates are removed once
+     * @param entityType Desired type of the result object
+     * @return Removed entity values in the input order, the ids not found are omitted
+     * @throws TarantoolBatchOperationException if some of the records are not removed
+     */
+    <T, ID> List<T> removeAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Remove the records corresponding to the specified entities like {@link #removeAll(Iterable, Class)}, but
+     * without converting the removed records to entities.
+     *
+     * @param <T>        target entity type
+     * @param entities   Target entities (must have the id property)
+     * @param entityType Entity class determining the space
+     * @return Number of removed records
+     * @throws TarantoolBatchOperationException if some of the records are not removed
+     */
+    <T> long deleteAll(Iterable<T> entities, Class<T> entityType);
+
+    /**
+     * Remove the records with the specified ids like {@link #removeAllById(Collection, Class)}, but without
+     * converting the removed records to entities.
+     *
+     * @param <T>        target entity type
+     * @param <ID>       target entity index type
+     * @param ids        Target entity IDs, the duplicates are removed once
+     * @param entityType Entity class determining the space
+     * @return Number of removed records
+     * @throws TarantoolBatchOperationException if some of the records are not removed
+     */
+    <T, ID> long deleteAllById(Collection<ID> ids, Class<T> entityType);
+
+    /**
+     * Execute the action bounding all operations it invokes on this instance by the specified timeout. The requests
+     * of the operations, including the subsequent requests of the composite operations, share one deadline; the
+     * requests still in flight at the deadline are cancelled. The enclosing deadline is kept if it expires earlier.
+     *
+     * @param <R>     action result type
+     * @param timeout positive timeout
+     * @param action  action invoking the operations
+     * @return action result
+     * @throws QueryTimeoutException if an operation is not completed within the timeout
+     */
+    <R> R withTimeout(Duration timeout, Supplier<R> action);
+
+    /**
+     * Get the non-blocking view of these operations. The returned operations share the client, the mapping context
+     * and the converter with this instance.
+     *
+     * @return async operations instance
+     */
+    TarantoolAsyncOperations async();
+
     /**
      * Getter for {@link TarantoolMappingContext}
      *
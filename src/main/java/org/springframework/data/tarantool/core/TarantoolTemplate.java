@@ -4,12 +4,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.msgpack.value.Value;
 import org.springframework.data.tarantool.core.convert.TarantoolConverter;
 import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.repository.TarantoolSerializationType;
 import org.springframework.util.Assert;
 
 import io.tarantool.driver.api.SingleValueCallResult;
@@ -18,7 +22,6 @@ import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.mappers.CallResultMapper;
-import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 
 /**
@@ -30,12 +33,60 @@ import io.tarantool.driver.mappers.converters.ValueConverter;
  */
 public class TarantoolTemplate extends BaseTarantoolTemplate {
 
+    private final TarantoolAsyncOperations asyncOperations;
+
+    /**
+     * Create a template executing the client-side work with the specified strategy
+     *
+     * @param tarantoolClient   Tarantool client
+     * @param mappingContext    mapping context
+     * @param converter         entity converter
+     * @param executionStrategy executor for converting the results and the fan-out work
+     */
+    public TarantoolTemplate(
+            TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient,
+            TarantoolMappingContext mappingContext,
+            TarantoolConverter converter,
+            TarantoolExecutionStrategy executionStrategy) {
+        super(tarantoolClient, mappingContext, converter, executionStrategy);
+        this.asyncOperations = new AsyncOperations();
+    }
+
+    /**
+     * Create a template executing the client-side work in a {@link ForkJoinPool} of at most
+     * {@value #MAX_WORKERS} workers
+     *
+     * @param tarantoolClient       Tarantool client
+     * @param mappingContext        mapping context
+     * @param converter             entity converter
+     * @param queryExecutorsFactory worker thread factory for the pool
+     * @deprecated use {@link #TarantoolTemplate(TarantoolClient, TarantoolMappingContext, TarantoolConverter,
+     * TarantoolExecutionStrategy)}
+     */
+    @Deprecated
     public TarantoolTemplate(
             TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> tarantoolClient,
             TarantoolMappingContext mappingContext,
             TarantoolConverter converter,
             ForkJoinWorkerThreadFactory queryExecutorsFactory) {
-        super(tarantoolClient, mappingContext, converter, queryExecutorsFactory);
+        this(tarantoolClient, mappingContext, converter, TarantoolExecutionStrategy.of(new ForkJoinPool(
+                Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()),
+                queryExecutorsFactory, null, false)));
+    }
+
+    /**
+     * Return the executor for the client-side work of the template, it reports the queue depth and the number of
+     * active workers
+     *
+     * @return execution strategy
+     */
+    public TarantoolExecutionStrategy getExecutionStrategy() {
+        return executionStrategy;
+    }
+
+    @Override
+    public TarantoolAsyncOperations async() {
+        return asyncOperations;
     }
 
     @Override
@@ -70,6 +121,17 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
         return executeSync(getResultSupplier(functionName, parameters, spaceName, entityClass));
     }
 
+    @Override
+    public <T, R> List<R> callForTupleList(String functionName, List<?> parameters, String spaceName,
+                                           Class<T> entityClass, Class<R> resultType) {
+        Assert.hasText(functionName, "Function name must not be null or empty!");
+        Assert.notNull(parameters, "Parameters must not be null!");
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(resultType, "Result type must not be null!");
+
+        return executeSync(getProjectionResultSupplier(functionName, parameters, spaceName, entityClass, resultType));
+    }
+
     @Override
     public <T> List<T> callForTupleList(String functionName,
                                         List<?> parameters,
@@ -98,21 +160,65 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
         Assert.notNull(parameters, "Parameters must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
         return executeSync(
-                () -> tarantoolClient.callForSingleResult(functionName, mapParameters(parameters), entityClass)
-                        .thenApply(value -> value == null ? null : mapToEntity(value, entityClass))
+                () -> decode(tarantoolClient.callForSingleResult(functionName, mapParameters(parameters), entityClass),
+                        value -> value == null ? null : mapToEntity(value, entityClass))
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> Supplier<CompletableFuture<T>> getAutoResultSupplier(
+            String functionName, List<?> parameters, Class<T> entityClass, String spaceName) {
+        Optional<TarantoolSpaceMetadata> spaceMetadata = getSpaceMetadata(spaceName);
+
+        CallResultMapper<Object, SingleValueCallResult<Object>> resultMapper = getAutoResultMapper(spaceMetadata);
+
+        return () -> decode(callForSingleResultCoalesced(functionName, mapParameters(parameters), resultMapper),
+                value -> {
+                    if (value == null) {
+                        return null;
+                    }
+                    if (value instanceof TarantoolResult) {
+                        return mapToEntity(((TarantoolResult) value).get(0), entityClass);
+                    }
+                    return mapToEntity(value, entityClass);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Supplier<CompletableFuture<List<T>>> getAutoListResultSupplier(
+            String functionName, List<?> parameters, Class<T> entityClass, String spaceName) {
+        Optional<TarantoolSpaceMetadata> spaceMetadata = getSpaceMetadata(spaceName);
+
+        CallResultMapper<Object, SingleValueCallResult<Object>> resultMapper = getAutoResultMapper(spaceMetadata);
+
+        return () -> decode(callForSingleResultCoalesced(functionName, mapParameters(parameters), resultMapper),
+                values -> {
+                    if (values == null) {
+                        return null;
+                    }
+                    return ((List<T>) values).stream()
+                            .map(t -> mapToEntity(t, entityClass))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private CompletableFuture<Object> callForSingleResultCoalesced(
+            String functionName, List<?> arguments,
+            CallResultMapper<Object, SingleValueCallResult<Object>> resultMapper) {
+        return coalesce(() -> tarantoolClient.callForSingleResult(functionName, arguments, resultMapper),
+                functionName, arguments, resultMapper);
+    }
+
     private CallResultMapper<Object, SingleValueCallResult<Object>>
     getAutoResultMapper(Optional<TarantoolSpaceMetadata> spaceMetadata) {
-        MessagePackMapper copiedMapper = mapper.copy();
-        return mapperFactoryFactory.createMapper(mapper)
-                .buildSingleValueResultMapper(
-                        mapperFactoryFactory.createMapper(mapper, spaceMetadata.orElse(null))
-                                .withArrayValueToTarantoolTupleResultConverter()
-                                .withRowsMetadataToTarantoolTupleResultConverter()
-                                .buildCallResultMapper(copiedMapper),
-                        Object.class);
+        return getResultMapper(spaceMetadata.orElse(null), Object.class, TarantoolSerializationType.AUTO,
+                () -> mapperFactoryFactory.createMapper(mapper)
+                        .buildSingleValueResultMapper(
+                                mapperFactoryFactory.createMapper(mapper, spaceMetadata.orElse(null))
+                                        .withArrayValueToTarantoolTupleResultConverter()
+                                        .withRowsMetadataToTarantoolTupleResultConverter()
+                                        .buildCallResultMapper(mapper.copy()),
+                                Object.class));
     }
 
     @Override
@@ -121,22 +227,7 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
         Assert.notNull(parameters, "Parameters must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
 
-        Optional<TarantoolSpaceMetadata> spaceMetadata = tarantoolClient.metadata().getSpaceByName(spaceName);
-
-        CallResultMapper<Object, SingleValueCallResult<Object>> resultMapper = getAutoResultMapper(spaceMetadata);
-
-        return executeSync(
-                () -> tarantoolClient.callForSingleResult(functionName, mapParameters(parameters), resultMapper)
-                        .thenApply(value -> {
-                            if (value == null) {
-                                return null;
-                            }
-                            if (value instanceof TarantoolResult) {
-                                return mapToEntity(((TarantoolResult) value).get(0), entityClass);
-                            }
-                            return mapToEntity(value, entityClass);
-                        })
-        );
+        return executeSync(getAutoResultSupplier(functionName, parameters, entityClass, spaceName));
     }
 
     @Override
@@ -145,21 +236,8 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
         Assert.hasText(functionName, "Function name must not be null or empty!");
         Assert.notNull(parameters, "Parameters must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
-        Optional<TarantoolSpaceMetadata> spaceMetadata = tarantoolClient.metadata().getSpaceByName(spaceName);
 
-        CallResultMapper<Object, SingleValueCallResult<Object>> resultMapper = getAutoResultMapper(spaceMetadata);
-
-        return executeSync(
-                () -> tarantoolClient.callForSingleResult(functionName, mapParameters(parameters), resultMapper)
-                        .thenApply(values -> {
-                            if (values == null) {
-                                return null;
-                            }
-                            return ((List<T>) values).stream()
-                                    .map(t -> mapToEntity(t, entityClass))
-                                    .collect(Collectors.toList());
-                        })
-        );
+        return executeSync(getAutoListResultSupplier(functionName, parameters, entityClass, spaceName));
     }
 
     @Override
@@ -178,9 +256,8 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
         Assert.hasText(functionName, "Function name must not be null or empty!");
         Assert.notNull(parameters, "Parameters must not be null!");
         Assert.notNull(entityClass, "Entity class must not be null!");
-        return executeSync(() -> tarantoolClient.callForSingleResult(functionName,
-                mapParameters(parameters), getMessagePackMapper(), getListValueConverter(entityClass))
-        );
+        return executeSync(getCustomResultSupplier(
+                functionName, parameters, getMessagePackMapper(), getMapValueConverter(entityClass)));
     }
 
     @Override
@@ -309,4 +386,122 @@ public class TarantoolTemplate extends BaseTarantoolTemplate {
     public <T> List<T> callForObjectList(String functionName, ValueConverter<Value, T> entityConverter) {
         return callForObjectList(functionName, Collections.emptyList(), entityConverter);
     }
+
+    private final class AsyncOperations extends BaseAsyncOperations {
+
+        @Override
+        public <T> CompletableFuture<T> callForTuple(String functionName, List<?> parameters,
+                                                     String spaceName, Class<T> entityClass) {
+            return callForTupleList(functionName, parameters, spaceName, entityClass)
+                    .thenApply(result -> result != null && !result.isEmpty() ? result.get(0) : null);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> callForTuple(String functionName, List<?> parameters,
+                                                     ValueConverter<Value, T> entityConverter) {
+            return callForTupleList(functionName, parameters, entityConverter)
+                    .thenApply(result -> result != null && !result.isEmpty() ? result.get(0) : null);
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> callForTupleList(String functionName, List<?> parameters,
+                                                               String spaceName, Class<T> entityClass) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return executeAsync(getResultSupplier(functionName, parameters, spaceName, entityClass));
+        }
+
+        @Override
+        public <T, R> CompletableFuture<List<R>> callForTupleList(String functionName, List<?> parameters,
+                                                                  String spaceName, Class<T> entityClass,
+                                                                  Class<R> resultType) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+            Assert.notNull(resultType, "Result type must not be null!");
+
+            return executeAsync(getProjectionResultSupplier(
+                    functionName, parameters, spaceName, entityClass, resultType));
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> callForTupleList(String functionName, List<?> parameters,
+                                                               ValueConverter<Value, T> entityConverter) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityConverter, "Entity converter must not be null!");
+
+            return executeAsync(getCustomResultSupplier(
+                    functionName, parameters, getMessagePackMapper(), entityConverter));
+        }
+
+        @Override
+        public <T> CompletableFuture<T> callForObject(String functionName, List<?> parameters,
+                                                      ValueConverter<Value, T> entityConverter) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityConverter, "Entity converter must not be null!");
+
+            return executeAsync(() -> tarantoolClient.callForSingleResult(
+                    functionName, mapParameters(parameters), getMessagePackMapper(), entityConverter)
+            );
+        }
+
+        @Override
+        public <T> CompletableFuture<T> callForObject(String functionName, List<?> parameters,
+                                                      Class<T> entityClass) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return executeAsync(() -> decode(
+                    tarantoolClient.callForSingleResult(functionName, mapParameters(parameters), entityClass),
+                    value -> value == null ? null : mapToEntity(value, entityClass))
+            );
+        }
+
+        @Override
+        public <T> CompletableFuture<T> callForObject(String functionName, List<?> parameters,
+                                                      Class<T> entityClass, String spaceName) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return executeAsync(getAutoResultSupplier(functionName, parameters, entityClass, spaceName));
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> callForObjectList(String functionName, List<?> parameters,
+                                                                Class<T> entityClass) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return executeAsync(getCustomResultSupplier(
+                    functionName, parameters, getMessagePackMapper(), getMapValueConverter(entityClass)));
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> callForObjectList(String functionName, List<?> parameters,
+                                                                Class<T> entityClass, String spaceName) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityClass, "Entity class must not be null!");
+
+            return executeAsync(getAutoListResultSupplier(functionName, parameters, entityClass, spaceName));
+        }
+
+        @Override
+        public <T> CompletableFuture<List<T>> callForObjectList(String functionName, List<?> parameters,
+                                                                ValueConverter<Value, T> entityConverter) {
+            Assert.hasText(functionName, "Function name must not be null or empty!");
+            Assert.notNull(parameters, "Parameters must not be null!");
+            Assert.notNull(entityConverter, "Entity converter must not be null!");
+
+            return executeAsync(getCustomResultSupplier(
+                    functionName, parameters, getMessagePackMapper(), entityConverter));
+        }
+    }
 }
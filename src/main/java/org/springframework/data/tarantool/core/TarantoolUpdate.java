@@ -0,0 +1,254 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.operations.TarantoolUpdateOperationType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Field operations applied to a record on the Tarantool side, e.g. incrementing a counter without reading the record
+ * first. The fields are specified by the entity property names, which are resolved to the tuple field positions when
+ * the operations are sent. The values of {@code set} are converted like the entity properties.
+ * <p>
+ * Example:
+ * <pre>
+ * tarantoolTemplate.updateById(1L, TarantoolUpdate.add("visits", 1).andSet("lastVisit", now), Customer.class);
+ * </pre>
+ *
+ * @see TarantoolOperations#updateById(Object, TarantoolUpdate, Class)
+ * @see TarantoolOperations#upsert(Object, TarantoolUpdate, Class)
+ */
+public final class TarantoolUpdate {
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private TarantoolUpdate() {
+    }
+
+    /**
+     * Create the update setting the property value
+     *
+     * @param property entity property name
+     * @param value    new value
+     * @return new update
+     */
+    public static TarantoolUpdate set(String property, @Nullable Object value) {
+        return new TarantoolUpdate().andSet(property, value);
+    }
+
+    /**
+     * Create the update adding the number to the numeric property
+     *
+     * @param property entity property name
+     * @param value    number to add
+     * @return new update
+     */
+    public static TarantoolUpdate add(String property, Number value) {
+        return new TarantoolUpdate().andAdd(property, value);
+    }
+
+    /**
+     * Create the update subtracting the number from the numeric property
+     *
+     * @param property entity property name
+     * @param value    number to subtract
+     * @return new update
+     */
+    public static TarantoolUpdate subtract(String property, Number value) {
+        return new TarantoolUpdate().andSubtract(property, value);
+    }
+
+    /**
+     * Create the update applying bitwise AND to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return new update
+     */
+    public static TarantoolUpdate bitwiseAnd(String property, long value) {
+        return new TarantoolUpdate().andBitwiseAnd(property, value);
+    }
+
+    /**
+     * Create the update applying bitwise OR to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return new update
+     */
+    public static TarantoolUpdate bitwiseOr(String property, long value) {
+        return new TarantoolUpdate().andBitwiseOr(property, value);
+    }
+
+    /**
+     * Create the update applying bitwise XOR to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return new update
+     */
+    public static TarantoolUpdate bitwiseXor(String property, long value) {
+        return new TarantoolUpdate().andBitwiseXor(property, value);
+    }
+
+    /**
+     * Create the update replacing a part of the string property
+     *
+     * @param property    entity property name
+     * @param position    position of the replaced part starting from 1, negative positions count from the end
+     * @param deleteCount number of characters to remove
+     * @param replacement string to insert
+     * @return new update
+     */
+    public static TarantoolUpdate splice(String property, int position, int deleteCount, String replacement) {
+        return new TarantoolUpdate().andSplice(property, position, deleteCount, replacement);
+    }
+
+    /**
+     * Also set the property value
+     *
+     * @param property entity property name
+     * @param value    new value
+     * @return this update
+     */
+    public TarantoolUpdate andSet(String property, @Nullable Object value) {
+        return addOperation(TarantoolUpdateOperationType.SET, property, value);
+    }
+
+    /**
+     * Also add the number to the numeric property
+     *
+     * @param property entity property name
+     * @param value    number to add
+     * @return this update
+     */
+    public TarantoolUpdate andAdd(String property, Number value) {
+        Assert.notNull(value, "Value must not be null!");
+        return addOperation(TarantoolUpdateOperationType.ADD, property, value);
+    }
+
+    /**
+     * Also subtract the number from the numeric property
+     *
+     * @param property entity property name
+     * @param value    number to subtract
+     * @return this update
+     */
+    public TarantoolUpdate andSubtract(String property, Number value) {
+        Assert.notNull(value, "Value must not be null!");
+        return addOperation(TarantoolUpdateOperationType.SUBTRACT, property, value);
+    }
+
+    /**
+     * Also apply bitwise AND to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return this update
+     */
+    public TarantoolUpdate andBitwiseAnd(String property, long value) {
+        return addOperation(TarantoolUpdateOperationType.BITWISEAND, property, value);
+    }
+
+    /**
+     * Also apply bitwise OR to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return this update
+     */
+    public TarantoolUpdate andBitwiseOr(String property, long value) {
+        return addOperation(TarantoolUpdateOperationType.BITWISEOR, property, value);
+    }
+
+    /**
+     * Also apply bitwise XOR to the unsigned integer property
+     *
+     * @param property entity property name
+     * @param value    operand
+     * @return this update
+     */
+    public TarantoolUpdate andBitwiseXor(String property, long value) {
+        return addOperation(TarantoolUpdateOperationType.BITWISEXOR, property, value);
+    }
+
+    /**
+     * Also replace a part of the string property
+     *
+     * @param property    entity property name
+     * @param position    position of the replaced part starting from 1, negative positions count from the end
+     * @param deleteCount number of characters to remove
+     * @param replacement string to insert
+     * @return this update
+     */
+    public TarantoolUpdate andSplice(String property, int position, int deleteCount, String replacement) {
+        Assert.notNull(replacement, "Replacement must not be null!");
+        Assert.hasText(property, "Property must not be empty!");
+        operations.add(new Operation(TarantoolUpdateOperationType.SPLICE, property, replacement, position,
+                deleteCount));
+        return this;
+    }
+
+    List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    private TarantoolUpdate addOperation(TarantoolUpdateOperationType type, String property,
+                                         @Nullable Object value) {
+        Assert.hasText(property, "Property must not be empty!");
+        operations.add(new Operation(type, property, value, 0, 0));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolUpdate" + operations;
+    }
+
+    static final class Operation {
+        private final TarantoolUpdateOperationType type;
+        private final String property;
+        @Nullable
+        private final Object value;
+        private final int position;
+        private final int deleteCount;
+
+        private Operation(TarantoolUpdateOperationType type, String property, @Nullable Object value,
+                          int position, int deleteCount) {
+            this.type = type;
+            this.property = property;
+            this.value = value;
+            this.position = position;
+            this.deleteCount = deleteCount;
+        }
+
+        TarantoolUpdateOperationType getType() {
+            return type;
+        }
+
+        String getProperty() {
+            return property;
+        }
+
+        @Nullable
+        Object getValue() {
+            return value;
+        }
+
+        int getPosition() {
+            return position;
+        }
+
+        int getDeleteCount() {
+            return deleteCount;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + property + " " + value;
+        }
+    }
+}
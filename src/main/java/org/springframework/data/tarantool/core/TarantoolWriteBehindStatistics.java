@@ -0,0 +1,75 @@
+package org.springframework.data.tarantool.core;
+
+/**
+ * Snapshot of the write-behind buffer counters of an entity
+ *
+ * @see org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind
+ */
+public final class TarantoolWriteBehindStatistics {
+
+    private final long bufferedCount;
+    private final long coalescedCount;
+    private final long flushedCount;
+    private final long failedCount;
+    private final int size;
+
+    TarantoolWriteBehindStatistics(long bufferedCount, long coalescedCount, long flushedCount, long failedCount,
+                                   int size) {
+        this.bufferedCount = bufferedCount;
+        this.coalescedCount = coalescedCount;
+        this.flushedCount = flushedCount;
+        this.failedCount = failedCount;
+        this.size = size;
+    }
+
+    /**
+     * Return the number of saved entities put into the buffer
+     *
+     * @return buffered writes number
+     */
+    public long getBufferedCount() {
+        return bufferedCount;
+    }
+
+    /**
+     * Return the number of buffered entities replaced by a later entity with the same key before being written
+     *
+     * @return coalesced writes number
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Return the number of entities written to Tarantool
+     *
+     * @return flushed writes number
+     */
+    public long getFlushedCount() {
+        return flushedCount;
+    }
+
+    /**
+     * Return the number of entities whose writes failed
+     *
+     * @return failed writes number
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Return the number of entities buffered and being written
+     *
+     * @return buffer size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolWriteBehindStatistics{buffered=" + bufferedCount + ", coalesced=" + coalescedCount +
+                ", flushed=" + flushedCount + ", failed=" + failedCount + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,407 @@
+package org.springframework.data.tarantool.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Buffer of the saved entities written to Tarantool in batches. The entities are kept by the primary key, so only the
+ * last saved entity with the same key is written. The batches are written one after another, so the later entity
+ * with the same key is never overwritten by the earlier one. The entities being written are counted in the buffer
+ * size. The entities saved while the buffer is full are queued in the save order and buffered when the batches
+ * being written are completed, so the callers are not blocked. The failed batches are kept as an error until it is
+ * returned by the next {@link #flush()}, so the lost writes are reported to the caller flushing the buffer, e.g. on
+ * shutdown.
+ */
+final class WriteBehindBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+    private static final int MAX_SUPPRESSED_FAILURES = 10;
+
+    private final String spaceName;
+    private final int maxSize;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final Function<List<Object>, CompletableFuture<?>> writer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder buffered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Deque<PendingPut> pending = new ArrayDeque<>();
+    private Map<Object, Object> entries = new LinkedHashMap<>();
+    private int writing;
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+    private DataAccessResourceFailureException unreportedFailure;
+    private ScheduledFuture<?> scheduledFlush;
+
+    WriteBehindBuffer(String spaceName, int maxSize, int flushSize, long flushIntervalMillis,
+                      Function<List<Object>, CompletableFuture<?>> writer) {
+        this.spaceName = spaceName;
+        this.maxSize = maxSize;
+        this.flushSize = Math.min(flushSize, maxSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.writer = writer;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "TarantoolWriteBehindTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Create the buffer for the entity marked with {@link TarantoolWriteBehind}
+     *
+     * @param entity persistent entity
+     * @param writer function writing a batch of entities
+     * @return new buffer or null if the entity is written directly
+     */
+    @Nullable
+    static WriteBehindBuffer of(TarantoolPersistentEntity<?> entity,
+                                Function<List<Object>, CompletableFuture<?>> writer) {
+        TarantoolWriteBehind writeBehind = entity.findAnnotation(TarantoolWriteBehind.class);
+        if (writeBehind == null || writeBehind.maxSize() <= 0) {
+            return null;
+        }
+        return new WriteBehindBuffer(entity.getSpaceName(), writeBehind.maxSize(),
+                Math.max(writeBehind.flushSize(), 1), Math.max(writeBehind.flushInterval(), 1), writer);
+    }
+
+    String getSpaceName() {
+        return spaceName;
+    }
+
+    /**
+     * Buffer the entity, replacing the buffered entity with the same key. Does not wait while the buffer is full: the
+     * entity is queued after the entities saved before it and buffered when the batches being written are completed.
+     * The buffered entities are flushed without holding the lock, since the writer may complete in the calling thread.
+     *
+     * @param key    entity primary key
+     * @param entity saved entity
+     * @return future completed when the entity is buffered
+     */
+    CompletableFuture<Void> put(Object key, Object entity) {
+        boolean flush;
+        boolean accepted = false;
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (pending.isEmpty() && hasRoomFor(key)) {
+                accept(key, entity);
+                accepted = true;
+                flush = entries.size() >= flushSize;
+            } else {
+                pending.add(new PendingPut(key, entity, result));
+                flush = !entries.isEmpty();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (flush) {
+            startFlush();
+        }
+        if (accepted) {
+            result.complete(null);
+        }
+        return result;
+    }
+
+    /**
+     * Write the buffered entities and report the batches failed since the previous call. The first failed batch is
+     * reported with at most {@value #MAX_SUPPRESSED_FAILURES} next ones added as suppressed, the others are only
+     * logged and counted in the statistics.
+     *
+     * @return future completed when the entities buffered before the call are written, or completed with
+     * {@link DataAccessResourceFailureException} if any batch failed
+     */
+    CompletableFuture<Void> flush() {
+        return startFlush().handle((value, error) -> {
+            DataAccessResourceFailureException failure;
+            lock.lock();
+            try {
+                failure = unreportedFailure;
+                unreportedFailure = null;
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Write the buffered entities without reporting the failed batches
+     *
+     * @return future completed when the entities buffered before the call are written, or completed exceptionally if
+     * the last batch failed
+     */
+    CompletableFuture<Void> startFlush() {
+        List<Object> batch;
+        CompletableFuture<Void> previous;
+        CompletableFuture<Void> current = new CompletableFuture<>();
+        lock.lock();
+        try {
+            cancelScheduledFlush();
+            if (entries.isEmpty()) {
+                return lastFlush;
+            }
+            batch = new ArrayList<>(entries.values());
+            entries = new LinkedHashMap<>();
+            writing += batch.size();
+            previous = lastFlush;
+            lastFlush = current;
+        } finally {
+            lock.unlock();
+        }
+        previous.whenComplete((value, error) -> write(batch, current));
+        return current;
+    }
+
+    /**
+     * Write the buffered entities if any of them has one of the specified keys, e.g. before the entities with the
+     * keys are written directly, so the buffered entities do not overwrite them later
+     *
+     * @param keys entity primary keys
+     * @return future completed when the entities with the keys buffered or being written are written or failed
+     */
+    CompletableFuture<Void> startFlush(Collection<?> keys) {
+        lock.lock();
+        try {
+            boolean buffered = false;
+            for (Object key : keys) {
+                if (entries.containsKey(key)) {
+                    buffered = true;
+                    break;
+                }
+            }
+            if (!buffered) {
+                return lastFlush;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return startFlush();
+    }
+
+    /**
+     * Drop the buffered and queued entities with the specified keys, e.g. before they are removed
+     *
+     * @param keys entity primary keys
+     * @return future completed when the entities being written are written or failed
+     */
+    CompletableFuture<Void> discard(Collection<?> keys) {
+        List<PendingPut> dropped = new ArrayList<>();
+        List<PendingPut> accepted;
+        CompletableFuture<Void> flushed;
+        boolean flush;
+        lock.lock();
+        try {
+            entries.keySet().removeAll(keys);
+            Iterator<PendingPut> puts = pending.iterator();
+            while (puts.hasNext()) {
+                PendingPut put = puts.next();
+                if (keys.contains(put.key)) {
+                    puts.remove();
+                    dropped.add(put);
+                }
+            }
+            accepted = acceptPending();
+            flush = needsFlush();
+            flushed = lastFlush;
+        } finally {
+            lock.unlock();
+        }
+        if (flush) {
+            startFlush();
+        }
+        complete(dropped);
+        complete(accepted);
+        return flushed;
+    }
+
+    /**
+     * Drop all buffered and queued entities, e.g. before the space is truncated
+     *
+     * @return future completed when the entities being written are written or failed
+     */
+    CompletableFuture<Void> discardAll() {
+        List<PendingPut> dropped;
+        CompletableFuture<Void> flushed;
+        lock.lock();
+        try {
+            cancelScheduledFlush();
+            entries.clear();
+            dropped = new ArrayList<>(pending);
+            pending.clear();
+            flushed = lastFlush;
+        } finally {
+            lock.unlock();
+        }
+        complete(dropped);
+        return flushed;
+    }
+
+    TarantoolWriteBehindStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new TarantoolWriteBehindStatistics(buffered.sum(), coalesced.sum(), flushed.sum(), failed.sum(),
+                    entries.size() + writing);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoomFor(Object key) {
+        return entries.containsKey(key) || entries.size() + writing < maxSize;
+    }
+
+    private void accept(Object key, Object entity) {
+        buffered.increment();
+        if (entries.put(key, entity) != null) {
+            coalesced.increment();
+        }
+        if (entries.size() < flushSize && scheduledFlush == null) {
+            scheduledFlush = TIMER.schedule((Runnable) this::startFlush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Buffer the queued entities while there is room for them, in the save order. The queued entities whose callers
+     * cancelled the save are skipped.
+     *
+     * @return accepted entities, their futures are completed by the caller without holding the lock
+     */
+    private List<PendingPut> acceptPending() {
+        List<PendingPut> accepted = Collections.emptyList();
+        while (!pending.isEmpty()) {
+            PendingPut put = pending.peek();
+            if (put.result.isDone()) {
+                pending.poll();
+            } else if (hasRoomFor(put.key)) {
+                pending.poll();
+                accept(put.key, put.entity);
+                if (accepted.isEmpty()) {
+                    accepted = new ArrayList<>();
+                }
+                accepted.add(put);
+            } else {
+                break;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Check if the buffered entities have to be written, either since there are enough of them or since the queued
+     * entities wait for room in the buffer
+     */
+    private boolean needsFlush() {
+        return !entries.isEmpty() && (entries.size() >= flushSize || !pending.isEmpty());
+    }
+
+    private static void complete(List<PendingPut> puts) {
+        for (PendingPut put : puts) {
+            put.result.complete(null);
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+
+    private void write(List<Object> batch, CompletableFuture<Void> done) {
+        CompletableFuture<?> result;
+        try {
+            result = writer.apply(batch);
+        } catch (RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        result.whenComplete((value, error) -> {
+            DataAccessResourceFailureException failure = null;
+            if (error != null) {
+                failed.add(batch.size());
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                        error.getCause() : error;
+                logger.warn("Failed to write {} buffered entities to space {}", batch.size(), spaceName, cause);
+                failure = new DataAccessResourceFailureException(
+                        "Failed to write " + batch.size() + " buffered entities to space " + spaceName, cause);
+            } else {
+                flushed.add(batch.size());
+            }
+            List<PendingPut> accepted;
+            boolean flush;
+            lock.lock();
+            try {
+                writing -= batch.size();
+                if (failure != null) {
+                    if (unreportedFailure == null) {
+                        unreportedFailure = failure;
+                    } else if (unreportedFailure.getSuppressed().length < MAX_SUPPRESSED_FAILURES) {
+                        unreportedFailure.addSuppressed(failure);
+                    }
+                }
+                accepted = acceptPending();
+                flush = needsFlush();
+            } finally {
+                lock.unlock();
+            }
+            if (failure != null) {
+                done.completeExceptionally(failure);
+            } else {
+                done.complete(null);
+            }
+            if (flush) {
+                startFlush();
+            }
+            complete(accepted);
+        });
+    }
+
+    /**
+     * Entity saved while the buffer is full, with the future completed when it is buffered
+     */
+    private static final class PendingPut {
+        private final Object key;
+        private final Object entity;
+        private final CompletableFuture<Void> result;
+
+        private PendingPut(Object key, Object entity, CompletableFuture<Void> result) {
+            this.key = key;
+            this.entity = entity;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the negative lookup filter for the marked entity. The template keeps a Bloom filter of the primary keys of
+ * the entity space, and {@code findById} and {@code existsById} return without a request for the identifiers which
+ * are definitely absent. The filter is loaded by scanning the primary keys of the space on the first lookup, the
+ * lookups made before it is loaded are sent to Tarantool. The keys are scanned again after the
+ * {@link #reloadInterval()}, the previous keys are used until the scan is completed. The identifiers written by the
+ * template through any entity of the space are added to the filter before the requests are sent and again when they
+ * are completed. Use it for the workloads which mostly probe absent keys.
+ * <p>
+ * <b>The filter is only safe when the template is the single writer of the space.</b> It knows only the records
+ * which existed when it was loaded and the records written by the same template, so the records created later by
+ * other application instances, by stored functions or by {@code @Query} methods are reported as absent until the
+ * keys are reloaded or the filter is invalidated with {@code TarantoolTemplate.invalidateKeyFilter(Class)}. The
+ * removed records stay in the filter until the reload and are looked up in Tarantool. The identifier class must
+ * implement {@code equals} and {@code hashCode}.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TarantoolBloomFilter {
+
+    /**
+     * The expected number of records in the space, used for sizing the filter
+     *
+     * @return number of records
+     */
+    int expectedRecords() default 1_000_000;
+
+    /**
+     * The probability of looking up an absent identifier in Tarantool when the space contains the expected number of
+     * records
+     *
+     * @return false positive probability, between 0 and 1
+     */
+    double falsePositiveRate() default 0.01;
+
+    /**
+     * The interval in milliseconds after which the primary keys are scanned again by the next lookup, bounding the
+     * time the records written bypassing the template are reported as absent. Two filters are kept in memory while
+     * the keys are scanned. Zero disables the reloading.
+     *
+     * @return reload interval
+     */
+    long reloadInterval() default 300_000;
+}
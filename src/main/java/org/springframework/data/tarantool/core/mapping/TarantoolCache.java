@@ -0,0 +1,37 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the near cache of the records found by id for the marked entity. The template keeps the recently found
+ * records and returns a new entity instance from the cached record on each call. The cached records are invalidated
+ * when the entities are written or removed by the CRUD operations of the same template; the changes made by the stored
+ * functions or by other clients become visible after the records expire.
+ *
+ * @see org.springframework.data.tarantool.core.TarantoolTemplate#getCacheStatistics(Class)
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TarantoolCache {
+
+    /**
+     * The maximum number of cached records, the least recently used records are evicted above it
+     *
+     * @return maximum cache size
+     */
+    int maxSize() default 1000;
+
+    /**
+     * The time in milliseconds after which a cached record expires, 0 for keeping the records until they are evicted
+     *
+     * @return time to live in milliseconds
+     */
+    long ttl() default 60_000;
+}
@@ -0,0 +1,35 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables sending only the changed fields when the marked entity is saved. The template keeps the hashes of the
+ * fields of the records read or written by it, by the entity id. When an entity whose record is known is saved, only
+ * the fields which differ from the known record are updated, and nothing is sent if no field differs. The entities
+ * whose records are not known are written completely. Use it for the large entities changed by one or two fields at
+ * a time.
+ * <p>
+ * The records are compared with the values known to the template, so the fields changed by other applications are
+ * not overwritten if they are not changed in the saved entity, and saving an unchanged entity does not restore a
+ * record removed by other applications. The records removed or updated in place by the same template and the
+ * records written through the other entities of the space are forgotten.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TarantoolChangeTracking {
+
+    /**
+     * The maximum number of records whose field hashes are kept, the least recently used ones are forgotten above
+     * it
+     *
+     * @return maximum number of records
+     */
+    int maxSize() default 10_000;
+}
@@ -0,0 +1,52 @@
+package org.springframework.data.tarantool.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the write-behind mode for the marked entity, e.g. for the heartbeats or counters saved many times per second
+ * with the same id. The entities passed to {@code save} are put into a buffer of the template by the primary key and
+ * the later entity replaces the earlier one with the same key. The buffered entities are written to Tarantool as a
+ * batch when the buffer collects {@link #flushSize()} entities or {@link #flushInterval()} after the first entity is
+ * buffered. The {@code save} call waits when the buffer is full until the buffered entities are written.
+ * <p>
+ * The buffered entities are not visible to the reads until they are written. The other writes of the space, through
+ * any entity stored in it, wait for the buffered entities to be written first, the removed entities are dropped from
+ * the buffer. The writes which fail
+ * are logged and dropped, and the next {@code TarantoolTemplate.flush()} call throws an exception reporting them.
+ * Call {@code TarantoolTemplate.flush()} for writing the buffered entities, the template created by the data
+ * configuration is flushed on shutdown, so the lost writes are reported by the failed destroy method.
+ *
+ * @see org.springframework.data.tarantool.core.TarantoolTemplate#getWriteBehindStatistics(Class)
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TarantoolWriteBehind {
+
+    /**
+     * The maximum number of entities buffered and being written
+     *
+     * @return maximum buffer size
+     */
+    int maxSize() default 10_000;
+
+    /**
+     * The number of buffered entities starting from which they are written without waiting for the flush interval
+     *
+     * @return number of entities
+     */
+    int flushSize() default 500;
+
+    /**
+     * The time in milliseconds after the first entity is buffered when the buffered entities are written
+     *
+     * @return flush interval in milliseconds
+     */
+    long flushInterval() default 100;
+}
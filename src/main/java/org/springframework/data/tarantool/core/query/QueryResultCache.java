@@ -0,0 +1,212 @@
+package org.springframework.data.tarantool.core.query;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.tarantool.core.convert.TarantoolConverter;
+import org.springframework.data.tarantool.repository.CachedQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache of the results of a repository method marked with {@link CachedQuery}. The results are keyed by the method
+ * parameters converted for the function call. A result requested after the refresh-ahead part of its time to live,
+ * or after its expiry but within the allowed staleness, is reloaded in the background while the callers keep
+ * receiving the cached one. Only one load per key is in flight: the callers missing the same key wait for the load
+ * started by the first of them. The streams are collected into lists when cached and a new stream is returned on each
+ * call.
+ * <p>
+ * The background reloads of all caches share two daemon threads, which are stopped when idle. The reloads not fitting
+ * into the bounded queue are dropped, the result is reloaded on a later request then.
+ */
+final class QueryResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryResultCache.class);
+    private static final int REFRESH_QUEUE_CAPACITY = 1024;
+    private static final ThreadPoolExecutor REFRESH_EXECUTOR = createRefreshExecutor();
+
+    private final TarantoolConverter converter;
+    private final long refreshNanos;
+    private final long ttlNanos;
+    private final long hardTtlNanos;
+    private final int maxEntries;
+    private final Map<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<List<Object>, CompletableFuture<Entry>> loads = new HashMap<>();
+
+    QueryResultCache(CachedQuery cachedQuery, TarantoolConverter converter) {
+        Assert.isTrue(cachedQuery.ttl() > 0, "Cached query ttl must be greater than 0");
+        Assert.isTrue(cachedQuery.maxEntries() > 0, "Cached query max entries number must be greater than 0");
+        this.converter = converter;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(cachedQuery.ttl());
+        this.refreshNanos = (long) (ttlNanos * Math.max(0, Math.min(cachedQuery.refreshAhead(), 1)));
+        long maxStale = cachedQuery.maxStale();
+        this.hardTtlNanos = ttlNanos + (maxStale < 0 ? ttlNanos : TimeUnit.MILLISECONDS.toNanos(maxStale));
+        this.maxEntries = cachedQuery.maxEntries();
+    }
+
+    private static ThreadPoolExecutor createRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "TarantoolQueryCacheRefresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Return the cached result for the parameters or load and cache it
+     *
+     * @param parameters method parameters
+     * @param loader     function call returning the result
+     * @return query result
+     */
+    @Nullable
+    Object get(Object[] parameters, Supplier<Object> loader) {
+        List<Object> key = new ArrayList<>();
+        converter.write(Arrays.asList(parameters), key);
+        while (true) {
+            long now = System.nanoTime();
+            Entry entry;
+            CompletableFuture<Entry> pending;
+            boolean owner = false;
+            synchronized (this) {
+                entry = entries.get(key);
+                if (entry != null && now - entry.loadedNanos >= hardTtlNanos) {
+                    entries.remove(key);
+                    entry = null;
+                }
+                pending = loads.get(key);
+                if (entry != null) {
+                    long age = now - entry.loadedNanos;
+                    boolean reload = age >= ttlNanos || refreshNanos < ttlNanos && age >= refreshNanos;
+                    if (!reload || pending != null) {
+                        return entry.result();
+                    }
+                }
+                if (pending == null) {
+                    pending = new CompletableFuture<>();
+                    loads.put(key, pending);
+                    owner = true;
+                }
+            }
+            if (entry != null) {
+                refresh(key, loader, pending);
+                return entry.result();
+            }
+            if (owner) {
+                return loadInCallingThread(key, loader, pending).result();
+            }
+            Entry loaded = await(pending);
+            if (loaded != null) {
+                return loaded.result();
+            }
+        }
+    }
+
+    private Entry loadInCallingThread(List<Object> key, Supplier<Object> loader, CompletableFuture<Entry> pending) {
+        try {
+            Entry entry = load(key, loader, pending);
+            pending.complete(entry);
+            return entry;
+        } catch (RuntimeException | Error e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reload the result in the background. The waiting callers receive null if the reload fails or is dropped, and
+     * load the result themselves.
+     */
+    private void refresh(List<Object> key, Supplier<Object> loader, CompletableFuture<Entry> pending) {
+        try {
+            REFRESH_EXECUTOR.execute(() -> {
+                try {
+                    pending.complete(load(key, loader, pending));
+                } catch (RuntimeException | Error e) {
+                    pending.complete(null);
+                    logger.warn("Failed to refresh the cached query result", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                loads.remove(key, pending);
+            }
+            pending.complete(null);
+            logger.debug("Dropped the refresh of the cached query result, the refresh queue is full");
+        }
+    }
+
+    @Nullable
+    private static Entry await(CompletableFuture<Entry> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Entry load(List<Object> key, Supplier<Object> loader, CompletableFuture<Entry> pending) {
+        Entry entry;
+        try {
+            Object value = loader.get();
+            boolean stream = value instanceof Stream;
+            entry = new Entry(stream ? ((Stream<?>) value).collect(Collectors.toList()) : value, stream,
+                    System.nanoTime());
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loads.remove(key, pending);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+            loads.remove(key, pending);
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        @Nullable
+        private final Object value;
+        private final boolean stream;
+        private final long loadedNanos;
+
+        private Entry(@Nullable Object value, boolean stream, long loadedNanos) {
+            this.value = value;
+            this.stream = stream;
+            this.loadedNanos = loadedNanos;
+        }
+
+        @Nullable
+        private Object result() {
+            return stream && value != null ? ((List<?>) value).stream() : value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.springframework.data.tarantool.core.query;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+
+import java.lang.reflect.Method;
+
+/**
+ * Strategy for looking up reactive repository queries implementation
+ *
+ * @see TarantoolQueryLookupStrategy
+ */
+public class ReactiveTarantoolQueryLookupStrategy implements QueryLookupStrategy {
+
+    private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+    private final ReactiveTarantoolOperations operations;
+
+    public ReactiveTarantoolQueryLookupStrategy(final QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                                final ReactiveTarantoolOperations operations) {
+        this.evaluationContextProvider = evaluationContextProvider;
+        this.operations = operations;
+    }
+
+    @Override
+    public RepositoryQuery resolveQuery(final Method method, final RepositoryMetadata metadata,
+                                        final ProjectionFactory projectionFactory, final NamedQueries namedQueries) {
+        ReactiveTarantoolQueryMethod queryMethod =
+                new ReactiveTarantoolQueryMethod(method, metadata, projectionFactory);
+        return new ReactiveTarantoolRepositoryQuery(operations, queryMethod);
+    }
+}
@@ -0,0 +1,31 @@
+package org.springframework.data.tarantool.core.query;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.util.ReactiveWrappers;
+
+import java.lang.reflect.Method;
+
+/**
+ * Represents a reactive query method with Tarantool extensions
+ *
+ * @see TarantoolQueryMethod
+ */
+public class ReactiveTarantoolQueryMethod extends TarantoolQueryMethod {
+
+    private final boolean multiValueQuery;
+
+    public ReactiveTarantoolQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+        super(method, metadata, factory);
+        this.multiValueQuery = ReactiveWrappers.isMultiValueType(method.getReturnType());
+    }
+
+    /**
+     * If the method returns a publisher of multiple elements, e.g. {@link reactor.core.publisher.Flux}.
+     *
+     * @return true if the method emits a sequence of results, false otherwise
+     */
+    public boolean isMultiValueQuery() {
+        return multiValueQuery;
+    }
+}
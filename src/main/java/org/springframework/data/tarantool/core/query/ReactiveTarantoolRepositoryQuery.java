@@ -0,0 +1,124 @@
+package org.springframework.data.tarantool.core.query;
+
+import io.tarantool.driver.exceptions.TarantoolAccessDeniedException;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.data.tarantool.repository.Query;
+import org.springframework.data.tarantool.repository.TarantoolSerializationType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Represents query matched to a reactive repository method. The result is emitted as {@link Mono} or {@link Flux}
+ * depending on the method return type.
+ *
+ * @see TarantoolObjectRepositoryQueryExecutor
+ * @see TarantoolTupleRepositoryQueryExecutor
+ */
+public class ReactiveTarantoolRepositoryQuery implements RepositoryQuery {
+
+    private final ReactiveTarantoolOperations operations;
+    private final ReactiveTarantoolQueryMethod queryMethod;
+
+    public ReactiveTarantoolRepositoryQuery(final ReactiveTarantoolOperations operations,
+                                            final ReactiveTarantoolQueryMethod queryMethod) {
+        this.operations = operations;
+        this.queryMethod = queryMethod;
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        List<?> parameterList = Arrays.asList(parameters);
+        Query query = queryMethod.getQueryAnnotation();
+        Object result;
+        if (query != null && TarantoolSerializationType.TUPLE.equals(query.output())) {
+            result = executeForTuple(parameterList);
+        } else {
+            result = executeForObject(parameterList);
+        }
+        Duration timeout = queryMethod.getQueryTimeout();
+        return timeout == null ? result : withTimeout(result, timeout);
+    }
+
+    /**
+     * Cancel the call if the result is not emitted within the timeout. The cancellation of the subscription is
+     * propagated to the request future.
+     */
+    private static Object withTimeout(Object result, Duration timeout) {
+        Function<TimeoutException, Throwable> timeoutError = ex -> new QueryTimeoutException(
+                String.format("Operation has not been completed within %d ms", timeout.toMillis()), ex);
+        if (result instanceof Flux) {
+            return ((Flux<?>) result).timeout(timeout).onErrorMap(TimeoutException.class, timeoutError);
+        }
+        return ((Mono<?>) result).timeout(timeout).onErrorMap(TimeoutException.class, timeoutError);
+    }
+
+    private Object executeForTuple(List<?> parameters) {
+        if (queryMethod.isProjectionQuery()) {
+            ReturnedType resultType = queryMethod.getResultProcessor().getReturnedType();
+            return executeForProjection(parameters, resultType.getDomainType(), resultType.getReturnedType());
+        }
+
+        final Class<?> returnedType = queryMethod.getReturnedObjectType();
+        String spaceName = operations.getMappingContext().getRequiredPersistentEntity(returnedType).getSpaceName();
+
+        if (queryMethod.isMultiValueQuery()) {
+            return operations.callForTupleList(queryMethod.getQueryFunctionName(), parameters, spaceName, returnedType);
+        }
+        return operations.callForTuple(queryMethod.getQueryFunctionName(), parameters, spaceName, returnedType);
+    }
+
+    private Object executeForProjection(List<?> parameters, Class<?> domainType, Class<?> projectionType) {
+        String spaceName = operations.getMappingContext().getRequiredPersistentEntity(domainType).getSpaceName();
+        Flux<?> result = operations.callForTupleList(queryMethod.getQueryFunctionName(), parameters, spaceName,
+                domainType, projectionType);
+        return queryMethod.isMultiValueQuery() ? result : result.next();
+    }
+
+    private Object executeForObject(List<?> parameters) {
+        final Class<?> returnedType = queryMethod.getResultProcessor().getReturnedType().getReturnedType();
+        if (!operations.getMappingContext().hasPersistentEntityFor(returnedType)) {
+            return callForObject(parameters, returnedType);
+        }
+        return callForEntity(parameters, returnedType);
+    }
+
+    private <T> Object callForEntity(List<?> parameters, Class<T> returnedType) {
+        String spaceName = operations.getMappingContext().getRequiredPersistentEntity(returnedType).getSpaceName();
+        String functionName = queryMethod.getQueryFunctionName();
+        if (queryMethod.isMultiValueQuery()) {
+            return operations.callForObjectList(functionName, parameters, returnedType, spaceName)
+                    .onErrorResume(ReactiveTarantoolRepositoryQuery::isAccessDenied,
+                            ex -> operations.callForObjectList(functionName, parameters, returnedType));
+        }
+        return operations.callForObject(functionName, parameters, returnedType, spaceName)
+                .onErrorResume(ReactiveTarantoolRepositoryQuery::isAccessDenied,
+                        ex -> operations.callForObject(functionName, parameters, returnedType));
+    }
+
+    private Object callForObject(List<?> parameters, Class<?> returnedType) {
+        if (queryMethod.isMultiValueQuery()) {
+            return operations.callForObjectList(queryMethod.getQueryFunctionName(), parameters, returnedType);
+        }
+        return operations.callForObject(queryMethod.getQueryFunctionName(), parameters, returnedType);
+    }
+
+    private static boolean isAccessDenied(Throwable ex) {
+        return ex instanceof TarantoolClientException && ex.getCause() instanceof TarantoolAccessDeniedException;
+    }
+
+    @Override
+    public QueryMethod getQueryMethod() {
+        return queryMethod;
+    }
+}
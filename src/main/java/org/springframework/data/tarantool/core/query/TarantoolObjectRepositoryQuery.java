@@ -3,8 +3,11 @@ package org.springframework.data.tarantool.core.query;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.tarantool.core.TarantoolOperations;
+import org.springframework.data.tarantool.repository.CachedQuery;
 import org.springframework.lang.Nullable;
 
+import java.time.Duration;
+
 
 /**
  * Represents query matched to a repository method that returns an object or list of objects
@@ -16,17 +19,32 @@ public class TarantoolObjectRepositoryQuery implements RepositoryQuery {
 
     private final TarantoolOperations operations;
     private final TarantoolQueryMethod queryMethod;
+    @Nullable
+    private final QueryResultCache resultCache;
 
     public TarantoolObjectRepositoryQuery(TarantoolOperations operations, TarantoolQueryMethod queryMethod) {
         this.operations = operations;
         this.queryMethod = queryMethod;
+        CachedQuery cachedQuery = queryMethod.getCachedQueryAnnotation();
+        this.resultCache = cachedQuery != null ? new QueryResultCache(cachedQuery, operations.getConverter()) : null;
     }
 
     @Nullable
     @Override
     public Object execute(Object[] parameters) {
-        return new TarantoolObjectRepositoryQueryExecutor(operations, queryMethod)
-                .execute(parameters);
+        if (resultCache != null) {
+            return resultCache.get(parameters, () -> call(parameters));
+        }
+        return call(parameters);
+    }
+
+    private Object call(Object[] parameters) {
+        TarantoolRepositoryQueryExecutor executor = new TarantoolObjectRepositoryQueryExecutor(operations, queryMethod);
+        Duration timeout = queryMethod.getQueryTimeout();
+        if (timeout == null) {
+            return executor.execute(parameters);
+        }
+        return operations.withTimeout(timeout, () -> executor.execute(parameters));
     }
 
     @Override
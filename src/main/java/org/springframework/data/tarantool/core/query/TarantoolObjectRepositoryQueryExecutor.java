@@ -4,6 +4,8 @@ import io.tarantool.driver.exceptions.TarantoolAccessDeniedException;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 
+import java.util.List;
+
 /**
  * Helper for executing repository queries marked by {@link org.springframework.data.tarantool.repository.Query}
  * annotation and having result as object or list of objects
@@ -28,9 +30,9 @@ public class TarantoolObjectRepositoryQueryExecutor implements TarantoolReposito
         if (operations.getMappingContext().hasPersistentEntityFor(returnedType)) {
             String spaceName = operations.getMappingContext().getRequiredPersistentEntity(returnedType).getSpaceName();
             try {
-                if (queryMethod.isCollectionQuery()) {
-                    return operations.callForObjectList(queryMethod.getQueryFunctionName(),
-                            parameters, returnedType, spaceName);
+                if (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery()) {
+                    return toResult(operations.callForObjectList(queryMethod.getQueryFunctionName(),
+                            parameters, returnedType, spaceName));
                 }
                 return operations.callForObject(queryMethod.getQueryFunctionName(),
                         parameters, returnedType, spaceName);
@@ -42,9 +44,13 @@ public class TarantoolObjectRepositoryQueryExecutor implements TarantoolReposito
             }
         }
 
-        if (queryMethod.isCollectionQuery()) {
-            return operations.callForObjectList(queryMethod.getQueryFunctionName(), parameters, returnedType);
+        if (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery()) {
+            return toResult(operations.callForObjectList(queryMethod.getQueryFunctionName(), parameters, returnedType));
         }
         return operations.callForObject(queryMethod.getQueryFunctionName(), parameters, returnedType);
     }
+
+    private Object toResult(List<?> result) {
+        return queryMethod.isStreamQuery() && result != null ? result.stream() : result;
+    }
 }
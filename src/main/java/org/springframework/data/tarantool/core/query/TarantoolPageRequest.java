@@ -0,0 +1,83 @@
+package org.springframework.data.tarantool.core.query;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link PageRequest} carrying the position of the page in the space. The slices returned by the template and the
+ * repositories contain such requests, and the page following a slice is selected starting after the last tuple of
+ * that slice instead of skipping {@link #getOffset()} tuples. Use
+ * {@link org.springframework.data.domain.Slice#nextPageable()} for iterating over the pages.
+ */
+public class TarantoolPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = 1L;
+
+    @Nullable
+    private final transient TarantoolTuple after;
+    @Nullable
+    private final transient TarantoolTuple nextAfter;
+
+    protected TarantoolPageRequest(int page, int size, Sort sort,
+                                   @Nullable TarantoolTuple after, @Nullable TarantoolTuple nextAfter) {
+        super(page, size, sort);
+        this.after = after;
+        this.nextAfter = nextAfter;
+    }
+
+    /**
+     * Create the request for the page of the specified number, the page is selected by offset
+     *
+     * @param page zero-based page number
+     * @param size page size
+     * @return page request
+     */
+    public static TarantoolPageRequest of(int page, int size) {
+        return of(page, size, Sort.unsorted());
+    }
+
+    /**
+     * Create the request for the page of the specified number with sort, the page is selected by offset
+     *
+     * @param page zero-based page number
+     * @param size page size
+     * @param sort requested order
+     * @return page request
+     */
+    public static TarantoolPageRequest of(int page, int size, Sort sort) {
+        return new TarantoolPageRequest(page, size, sort, null, null);
+    }
+
+    /**
+     * Create the request for the page that has been selected, its {@link #next()} page starts after the last tuple
+     * of the selected one
+     *
+     * @param pageable  original page request
+     * @param lastTuple last tuple of the selected page
+     * @return page request
+     */
+    public static TarantoolPageRequest selected(Pageable pageable, @Nullable TarantoolTuple lastTuple) {
+        TarantoolTuple after = pageable instanceof TarantoolPageRequest ?
+                ((TarantoolPageRequest) pageable).getAfter() : null;
+        return new TarantoolPageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(),
+                after, lastTuple);
+    }
+
+    /**
+     * Return the last tuple of the previous page
+     *
+     * @return the tuple or null if the page is selected by offset
+     */
+    @Nullable
+    public TarantoolTuple getAfter() {
+        return after;
+    }
+
+    @Override
+    public TarantoolPageRequest next() {
+        return new TarantoolPageRequest(getPageNumber() + 1, getPageSize(), getSort(), nextAfter, null);
+    }
+}
@@ -4,9 +4,14 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.tarantool.core.mapping.Tuple;
+import org.springframework.data.tarantool.repository.CachedQuery;
 import org.springframework.data.tarantool.repository.Query;
+import org.springframework.lang.Nullable;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 /**
  * Represents a query method with Tarantool extensions
@@ -54,4 +59,41 @@ public class TarantoolQueryMethod extends QueryMethod {
         }
         return getQueryAnnotation().function();
     }
+
+    /**
+     * Return the call timeout specified in Query annotation
+     *
+     * @return timeout or null if the default timeout is used
+     */
+    @Nullable
+    public Duration getQueryTimeout() {
+        Query query = getQueryAnnotation();
+        if (query == null || query.timeout() <= 0) {
+            return null;
+        }
+        return Duration.ofMillis(query.timeout());
+    }
+
+    /**
+     * Check if the method returns an interface or DTO projection of the domain type. The projections are read from
+     * the tuples of the domain type space, while the classes marked with {@link Tuple} are mapped as the entities of
+     * their own spaces.
+     *
+     * @return true if the returned type is a projection
+     */
+    public boolean isProjectionQuery() {
+        ReturnedType returnedType = getResultProcessor().getReturnedType();
+        return returnedType.isProjecting() &&
+                !AnnotatedElementUtils.hasAnnotation(returnedType.getReturnedType(), Tuple.class);
+    }
+
+    /**
+     * Returns the @CachedQuery annotation if set, null otherwise.
+     *
+     * @return the @CachedQuery annotation if present.
+     */
+    @Nullable
+    public CachedQuery getCachedQueryAnnotation() {
+        return AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class);
+    }
 }
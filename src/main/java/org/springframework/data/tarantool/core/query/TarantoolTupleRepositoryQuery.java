@@ -3,6 +3,10 @@ package org.springframework.data.tarantool.core.query;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.tarantool.core.TarantoolOperations;
+import org.springframework.data.tarantool.repository.CachedQuery;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
 
 /**
  * Represents query matched to a repository method that returns a tuple or list of tuples
@@ -14,16 +18,31 @@ public class TarantoolTupleRepositoryQuery implements RepositoryQuery {
 
     private final TarantoolOperations operations;
     private final TarantoolQueryMethod queryMethod;
+    @Nullable
+    private final QueryResultCache resultCache;
 
     public TarantoolTupleRepositoryQuery(final TarantoolOperations operations, final TarantoolQueryMethod queryMethod) {
         this.operations = operations;
         this.queryMethod = queryMethod;
+        CachedQuery cachedQuery = queryMethod.getCachedQueryAnnotation();
+        this.resultCache = cachedQuery != null ? new QueryResultCache(cachedQuery, operations.getConverter()) : null;
     }
 
     @Override
     public Object execute(Object[] parameters) {
-        return new TarantoolTupleRepositoryQueryExecutor(operations, queryMethod)
-                .execute(parameters);
+        if (resultCache != null) {
+            return resultCache.get(parameters, () -> call(parameters));
+        }
+        return call(parameters);
+    }
+
+    private Object call(Object[] parameters) {
+        TarantoolRepositoryQueryExecutor executor = new TarantoolTupleRepositoryQueryExecutor(operations, queryMethod);
+        Duration timeout = queryMethod.getQueryTimeout();
+        if (timeout == null) {
+            return executor.execute(parameters);
+        }
+        return operations.withTimeout(timeout, () -> executor.execute(parameters));
     }
 
     @Override
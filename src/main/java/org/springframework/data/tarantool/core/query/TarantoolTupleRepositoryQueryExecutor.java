@@ -1,7 +1,11 @@
 package org.springframework.data.tarantool.core.query;
 
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.tarantool.core.TarantoolOperations;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Helper for executing repository queries marked by {@link org.springframework.data.tarantool.repository.Query}
  * annotation and having result as tuple or list of tuples
@@ -27,14 +31,38 @@ public class TarantoolTupleRepositoryQueryExecutor implements TarantoolRepositor
      * @return query result
      */
     public Object execute(final Object[] parameters) {
+        if (queryMethod.isProjectionQuery()) {
+            ReturnedType resultType = queryMethod.getResultProcessor().getReturnedType();
+            return executeForProjection(parameters, resultType.getDomainType(), resultType.getReturnedType());
+        }
+
         final Class<?> returnedType = queryMethod.getReturnedObjectType();
 
         String spaceName = operations.getMappingContext().getRequiredPersistentEntity(returnedType).getSpaceName();
 
-        if (queryMethod.isCollectionQuery()) {
+        if (queryMethod.isStreamQuery()) {
+            List<?> result = operations.callForTupleList(
+                    queryMethod.getQueryFunctionName(), parameters, spaceName, returnedType);
+            return result == null ? null : result.stream();
+        } else if (queryMethod.isCollectionQuery()) {
             return operations.callForTupleList(queryMethod.getQueryFunctionName(), parameters, spaceName, returnedType);
         } else {
             return operations.callForTuple(queryMethod.getQueryFunctionName(), parameters, spaceName, returnedType);
         }
     }
+
+    /**
+     * Read the interface or DTO projections straight from the tuples of the domain type space
+     */
+    private Object executeForProjection(Object[] parameters, Class<?> domainType, Class<?> projectionType) {
+        String spaceName = operations.getMappingContext().getRequiredPersistentEntity(domainType).getSpaceName();
+        List<?> result = operations.callForTupleList(queryMethod.getQueryFunctionName(), Arrays.asList(parameters),
+                spaceName, domainType, projectionType);
+        if (queryMethod.isStreamQuery()) {
+            return result == null ? null : result.stream();
+        } else if (queryMethod.isCollectionQuery()) {
+            return result;
+        }
+        return result == null || result.isEmpty() ? null : result.get(0);
+    }
 }
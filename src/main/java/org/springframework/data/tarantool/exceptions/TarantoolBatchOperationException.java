@@ -0,0 +1,50 @@
+package org.springframework.data.tarantool.exceptions;
+
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when some operations of a batch have failed. The results of the successful operations and the errors of the
+ * failed ones are available by the position of the corresponding item in the batch.
+ */
+public class TarantoolBatchOperationException extends DataAccessException {
+
+    private final List<?> results;
+    private final Map<Integer, Throwable> errors;
+
+    /**
+     * Basic constructor
+     *
+     * @param results results of the operations in the batch order, null for the failed operations
+     * @param errors  errors of the failed operations by their position in the batch, in the batch order
+     */
+    public TarantoolBatchOperationException(List<?> results, Map<Integer, Throwable> errors) {
+        super(String.format("%d of %d batch operations failed", errors.size(), results.size()),
+                errors.values().iterator().next());
+        this.results = Collections.unmodifiableList(results);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Get the results of the operations in the batch order. The results of the failed operations are null.
+     *
+     * @param <T> result type
+     * @return list of results
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getResults() {
+        return (List<T>) results;
+    }
+
+    /**
+     * Get the errors of the failed operations by their position in the batch
+     *
+     * @return errors ordered by position
+     */
+    public Map<Integer, Throwable> getErrors() {
+        return errors;
+    }
+}
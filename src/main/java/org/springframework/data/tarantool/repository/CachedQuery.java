@@ -0,0 +1,54 @@
+package org.springframework.data.tarantool.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to cache the results of a repository method marked with {@link Query}. The results are cached by the
+ * method parameters converted the same way as for the function call, so it should be used only for the read-only
+ * functions whose results change rarely, like configuration lookups or reference data. The cached results are shared
+ * by the callers and should not be modified.
+ *
+ * @see Query
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQuery {
+
+    /**
+     * Specify the time in milliseconds after which a cached result expires and the function is called again
+     *
+     * @return time to live in milliseconds
+     */
+    long ttl();
+
+    /**
+     * Specify the maximum number of cached results, the least recently used results are evicted above it
+     *
+     * @return maximum number of cached results
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Specify the part of the time to live after which a cached result is reloaded in the background when it is
+     * requested. The callers keep receiving the cached result until the reloaded one replaces it, so the frequently
+     * requested results are not expired. Use 1 for disabling the reload before the result expires.
+     *
+     * @return part of the time to live between 0 and 1
+     */
+    double refreshAhead() default 0.75;
+
+    /**
+     * Specify the time in milliseconds after the expiry during which an expired result is still returned while it is
+     * reloaded in the background. The callers requesting the result after that wait for it to be loaded, one function
+     * call is made for all of them. A negative value means the time to live, 0 disables returning the expired
+     * results.
+     *
+     * @return maximum staleness of the returned result after its expiry, in milliseconds
+     */
+    long maxStale() default -1;
+}
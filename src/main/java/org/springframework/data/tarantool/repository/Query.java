@@ -36,4 +36,13 @@ public @interface Query {
      * @return expected output structure
      */
     TarantoolSerializationType output() default TarantoolSerializationType.AUTO;
+
+    /**
+     * Specify the timeout in milliseconds for the function call. The call is cancelled and
+     * {@link org.springframework.dao.QueryTimeoutException} is thrown if the result is not received within the timeout.
+     * The default timeout of the template is used if not specified.
+     *
+     * @return timeout in milliseconds, 0 for the default timeout
+     */
+    long timeout() default 0;
 }
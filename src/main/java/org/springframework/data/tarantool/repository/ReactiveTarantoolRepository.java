@@ -0,0 +1,24 @@
+package org.springframework.data.tarantool.repository;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Tarantool specific reactive {@link org.springframework.data.repository.Repository} interface.
+ *
+ * @see TarantoolRepository
+ */
+@NoRepositoryBean
+public interface ReactiveTarantoolRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+    /**
+     * Update all records selected by the specified conditions. The space is determined automatically by the
+     * entity class.
+     *
+     * @param query       tuple selection conditions
+     * @param entity      entity with new data for update
+     * @return updated objects
+     */
+    Flux<T> update(Conditions query, T entity);
+}
@@ -1,10 +1,13 @@
 package org.springframework.data.tarantool.repository;
 
 import io.tarantool.driver.api.conditions.Conditions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Tarantool specific {@link org.springframework.data.repository.Repository} interface.
@@ -24,4 +27,41 @@ public interface TarantoolRepository<T, ID> extends PagingAndSortingRepository<T
      * @return list of updated objects
      */
     List<T> update(Conditions query, T entity);
+
+    /**
+     * Get a page of entities without counting all records. The slice returned contains a
+     * {@link org.springframework.data.tarantool.core.query.TarantoolPageRequest}, and the page requested with its
+     * {@link Slice#nextPageable()} is selected after the last record of the slice.
+     *
+     * @param pageable page request
+     * @return slice of entities
+     */
+    Slice<T> findSlice(Pageable pageable);
+
+    /**
+     * Get a page of the records selected by the specified conditions without counting all of them.
+     *
+     * @param query    tuple selection conditions
+     * @param pageable page request
+     * @return slice of entities
+     * @see #findSlice(Pageable)
+     */
+    Slice<T> findSlice(Conditions query, Pageable pageable);
+
+    /**
+     * Select the records matching the specified conditions lazily. The records are fetched by pages when the stream
+     * is consumed, so the whole result is never held in memory. The stream must be closed if it is not consumed
+     * completely.
+     *
+     * @param query tuple selection conditions
+     * @return stream of the found objects
+     */
+    Stream<T> stream(Conditions query);
+
+    /**
+     * Get all records of the space lazily as in {@link #stream(Conditions)}.
+     *
+     * @return stream of all objects
+     */
+    Stream<T> streamAll();
 }
@@ -0,0 +1,131 @@
+package org.springframework.data.tarantool.repository.config;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.tarantool.core.ReactiveTarantoolTemplate;
+import org.springframework.data.tarantool.repository.support.ReactiveTarantoolRepositoryFactoryBean;
+import org.springframework.data.tarantool.repository.support.SimpleReactiveTarantoolRepository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to activate reactive Tarantool repositories. If no base package is configured through either
+ * {@link #value()}, {@link #basePackages()} or {@link #basePackageClasses()} it will trigger scanning of the package
+ * of annotated class. Only the repositories with reactive method signatures are picked up, so this annotation can be
+ * combined with {@link EnableTarantoolRepositories} on the same packages.
+ *
+ * @see EnableTarantoolRepositories
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveTarantoolRepositoriesRegistrar.class)
+public @interface EnableReactiveTarantoolRepositories {
+
+    /**
+     * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+     * {@code @EnableReactiveTarantoolRepositories("org.my.pkg")} instead of
+     * {@code @EnableReactiveTarantoolRepositories(basePackages="org.my.pkg")}.
+     *
+     * @return array of package names to scan
+     */
+    String[] value() default {};
+
+    /**
+     * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with)
+     * this attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+     *
+     * @return array of package names to scan
+     */
+    String[] basePackages() default {};
+
+    /**
+     * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components.
+     * The package of each class specified will be scanned. Consider creating a special no-op marker class or interface
+     * in each package that serves no purpose other than being referenced by this attribute.
+     *
+     * @return array of package classes to scan
+     */
+    Class<?>[] basePackageClasses() default {};
+
+    /**
+     * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+     * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or
+     * filters.
+     *
+     * @return array of filters for including components for scanning
+     */
+    Filter[] includeFilters() default {};
+
+    /**
+     * Specifies which types are not eligible for component scanning.
+     *
+     * @return array of filters for excluding components from scanning
+     */
+    Filter[] excludeFilters() default {};
+
+    /**
+     * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+     * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+     * for {@code PersonRepositoryImpl}.
+     *
+     * @return {@literal Impl} by default.
+     */
+    String repositoryImplementationPostfix() default "Impl";
+
+    /**
+     * Configures the location of where to find the Spring Data named queries properties file. Will default to
+     * {@code META-INFO/tarantool-named-queries.properties}.
+     *
+     * @return empty {@link String} by default.
+     */
+    String namedQueriesLocation() default "";
+
+    /**
+     * Returns the key of the {@link QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+     * {@link Key#CREATE_IF_NOT_FOUND}.
+     *
+     * @return {@link Key#CREATE_IF_NOT_FOUND} by default.
+     */
+    Key queryLookupStrategy() default Key.CREATE_IF_NOT_FOUND;
+
+    /**
+     * Returns the {@link FactoryBean} class to be used for each repository instance. Defaults to
+     * {@link ReactiveTarantoolRepositoryFactoryBean}.
+     *
+     * @return {@link ReactiveTarantoolRepositoryFactoryBean} by default.
+     */
+    Class<?> repositoryFactoryBeanClass() default ReactiveTarantoolRepositoryFactoryBean.class;
+
+    /**
+     * Configure the repository base class to be used to create repository proxies for this particular configuration.
+     *
+     * @return {@link DefaultRepositoryBaseClass} by default.
+     */
+    Class<?> repositoryBaseClass() default SimpleReactiveTarantoolRepository.class;
+
+    /**
+     * Configures the name of the {@link ReactiveTarantoolTemplate} bean to be used with the repositories detected.
+     *
+     * @return {@literal reactiveTarantoolTemplate} by default.
+     */
+    String reactiveTarantoolTemplateRef() default "reactiveTarantoolTemplate";
+
+    /**
+     * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
+     * repositories infrastructure.
+     *
+     * @return {@literal false} by default.
+     */
+    boolean considerNestedRepositories() default false;
+}
@@ -0,0 +1,28 @@
+package org.springframework.data.tarantool.repository.config;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Tarantool-specific {@link RepositoryBeanDefinitionRegistrarSupport} implementation for reactive repositories.
+ *
+ * @see TarantoolRepositoriesRegistrar
+ */
+public class ReactiveTarantoolRepositoriesRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    /**
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getAnnotation()
+     */
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveTarantoolRepositories.class;
+    }
+
+    /**
+     * @see org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport#getExtension()
+     */
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveTarantoolRepositoryConfigurationExtension();
+    }
+}
@@ -0,0 +1,68 @@
+package org.springframework.data.tarantool.repository.config;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.config.ParsingUtils;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.tarantool.repository.ReactiveTarantoolRepository;
+import org.springframework.data.tarantool.repository.support.ReactiveTarantoolRepositoryFactoryBean;
+import org.w3c.dom.Element;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Tarantool specific implementation of
+ * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} for reactive repositories.
+ *
+ * @see TarantoolRepositoryConfigurationExtension
+ */
+public class ReactiveTarantoolRepositoryConfigurationExtension extends RepositoryConfigurationExtensionSupport {
+
+    /**
+     * The reference property to use in xml configuration to specify the template to use with a repository.
+     */
+    private static final String REACTIVE_TARANTOOL_TEMPLATE_REF = "reactive-tarantool-template-ref";
+
+    private static final String REACTIVE_TARANTOOL_OPERATIONS = "reactiveTarantoolOperations";
+
+    @Override
+    public String getModuleName() {
+        return "Reactive Tarantool";
+    }
+
+    @Override
+    protected String getModulePrefix() {
+        return "tarantool";
+    }
+
+    @Override
+    public String getRepositoryFactoryBeanClassName() {
+        return ReactiveTarantoolRepositoryFactoryBean.class.getName();
+    }
+
+    @Override
+    protected Collection<Class<?>> getIdentifyingTypes() {
+        return Collections.singleton(ReactiveTarantoolRepository.class);
+    }
+
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, XmlRepositoryConfigurationSource config) {
+        Element element = config.getElement();
+        ParsingUtils.setPropertyReference(builder, element, REACTIVE_TARANTOOL_TEMPLATE_REF,
+                REACTIVE_TARANTOOL_OPERATIONS);
+    }
+
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+        config.getAttribute("reactiveTarantoolTemplateRef").ifPresent(
+                templateRef -> builder.addPropertyReference(REACTIVE_TARANTOOL_OPERATIONS, templateRef));
+    }
+
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.tarantool.config.BeanNames;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 import org.springframework.data.tarantool.repository.support.TarantoolRepositoryFactoryBean;
@@ -59,4 +60,12 @@ public class TarantoolRepositoryConfigurationExtension extends RepositoryConfigu
         builder.addDependsOn(BeanNames.TARANTOOL_OPERATIONS_MAPPING);
         builder.addPropertyReference("tarantoolOperationsMapping", BeanNames.TARANTOOL_OPERATIONS_MAPPING);
     }
+
+    /**
+     * Reactive repositories are registered by {@link ReactiveTarantoolRepositoryConfigurationExtension}
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return !metadata.isReactiveRepository();
+    }
 }
@@ -0,0 +1,59 @@
+package org.springframework.data.tarantool.repository.support;
+
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentProperty;
+import org.springframework.data.tarantool.core.query.ReactiveTarantoolQueryLookupStrategy;
+import org.springframework.data.tarantool.repository.ReactiveTarantoolRepository;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * Factory for {@link ReactiveTarantoolRepository} instances.
+ *
+ * @see TarantoolRepositoryFactory
+ */
+public class ReactiveTarantoolRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    private final ReactiveTarantoolOperations operations;
+    private final MappingContext<? extends TarantoolPersistentEntity<?>, TarantoolPersistentProperty> mappingContext;
+
+    public ReactiveTarantoolRepositoryFactory(ReactiveTarantoolOperations operations) {
+        Assert.notNull(operations, "ReactiveTarantoolOperations must not be null!");
+        this.operations = operations;
+        this.mappingContext = operations.getConverter().getMappingContext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, ID> TarantoolEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        TarantoolPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainClass);
+        return new MappingTarantoolEntityInformation<>((TarantoolPersistentEntity<T>) entity);
+    }
+
+    @Override
+    protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+        TarantoolEntityInformation<?, Object> entityInformation = getEntityInformation(
+                repositoryInformation.getDomainType()
+        );
+        return getTargetRepositoryViaReflection(repositoryInformation, entityInformation, operations);
+    }
+
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata repositoryMetadata) {
+        return SimpleReactiveTarantoolRepository.class;
+    }
+
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(
+            QueryLookupStrategy.Key key, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        return Optional.of(new ReactiveTarantoolQueryLookupStrategy(evaluationContextProvider, operations));
+    }
+}
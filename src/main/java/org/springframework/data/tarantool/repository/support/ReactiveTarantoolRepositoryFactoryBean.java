@@ -0,0 +1,51 @@
+package org.springframework.data.tarantool.repository.support;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.beans.factory.FactoryBean} implementation for reactive repositories.
+ *
+ * @see TarantoolRepositoryFactoryBean
+ */
+public class ReactiveTarantoolRepositoryFactoryBean<T extends Repository<S, ID>, S, ID> extends
+        RepositoryFactoryBeanSupport<T, S, ID> {
+
+    private ReactiveTarantoolOperations operations;
+
+    /**
+     * Creates a new {@link ReactiveTarantoolRepositoryFactoryBean} for the given repository interface.
+     *
+     * @param repositoryInterface must not be {@literal null}.
+     */
+    public ReactiveTarantoolRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    /**
+     * Set the reactive template reference.
+     *
+     * @param operations the reference to the reactive operations template.
+     */
+    public void setReactiveTarantoolOperations(ReactiveTarantoolOperations operations) {
+        this.operations = operations;
+        setMappingContext(operations.getMappingContext());
+    }
+
+    @Override
+    protected RepositoryFactorySupport createRepositoryFactory() {
+        return new ReactiveTarantoolRepositoryFactory(operations);
+    }
+
+    /**
+     * Make sure that the dependencies are set and not null.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(operations, "ReactiveTarantoolOperations must not be null!");
+        super.afterPropertiesSet();
+    }
+}
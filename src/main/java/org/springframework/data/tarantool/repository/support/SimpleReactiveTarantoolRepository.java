@@ -0,0 +1,176 @@
+package org.springframework.data.tarantool.repository.support;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.tarantool.core.ReactiveTarantoolOperations;
+import org.springframework.data.tarantool.repository.ReactiveTarantoolRepository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Basic reactive Tarantool repository implementation
+ *
+ * @param <T>  entity type
+ * @param <ID> entity identifier (primary key) type
+ * @see SimpleTarantoolRepository
+ */
+public class SimpleReactiveTarantoolRepository<T, ID> implements ReactiveTarantoolRepository<T, ID> {
+
+    private final ReactiveTarantoolOperations tarantoolOperations;
+    private final TarantoolEntityInformation<T, ID> entityInformation;
+
+    public SimpleReactiveTarantoolRepository(TarantoolEntityInformation<T, ID> entityInformation,
+                                             ReactiveTarantoolOperations tarantoolOperations) {
+        this.entityInformation = entityInformation;
+        this.tarantoolOperations = tarantoolOperations;
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return tarantoolOperations.findAll(entityInformation.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        Assert.notNull(sort, "The given sort must not be null");
+
+        return tarantoolOperations.findAll(sort, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return tarantoolOperations.findById(id, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return tarantoolOperations.existsById(id, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return tarantoolOperations.findAllById(idList, entityInformation.getJavaType())
+                .flatMapIterable(Map::values);
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> ids) {
+        Assert.notNull(ids, "The given Publisher of ids must not be null");
+
+        return Flux.from(ids).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Mono<S> save(S entity) {
+        Assert.notNull(entity, "The entity must not be null");
+
+        return tarantoolOperations.save(entity, (Class<S>) entityInformation.getJavaType());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+        return tarantoolOperations.saveAll(entities, (Class<S>) entityInformation.getJavaType());
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entities) {
+        Assert.notNull(entities, "The given Publisher of entities must not be null");
+
+        return Flux.from(entities).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return tarantoolOperations.count(Conditions.any(), entityInformation.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return tarantoolOperations.removeById(id, entityInformation.getJavaType()).then();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        Assert.notNull(id, "The given id must not be null");
+
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        Assert.notNull(entity, "The given entity must not be null");
+
+        return tarantoolOperations.remove(entity, entityInformation.getJavaType()).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+        Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return tarantoolOperations.deleteAllById(idList, entityInformation.getJavaType()).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+        List<T> entityList = new ArrayList<>();
+        entities.forEach(entityList::add);
+        return tarantoolOperations.deleteAll(entityList, entityInformation.getJavaType()).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entities) {
+        Assert.notNull(entities, "The given Publisher of entities must not be null");
+
+        return Flux.from(entities).collectList().flatMap(this::deleteAll);
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return tarantoolOperations.truncate(entityInformation.getSpaceName());
+    }
+
+    @Override
+    public Flux<T> update(Conditions query, T entity) {
+        Assert.notNull(entity, "The given entity must not be null");
+
+        return tarantoolOperations.update(query, entity, entityInformation.getJavaType());
+    }
+}
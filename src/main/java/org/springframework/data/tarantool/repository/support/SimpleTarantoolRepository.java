@@ -4,14 +4,17 @@ import io.tarantool.driver.api.conditions.Conditions;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.tarantool.core.TarantoolOperations;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.tarantool.repository.TarantoolRepository;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Basic Tarantool repository implementation
@@ -39,18 +42,42 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
 
     @Override
     public Iterable<T> findAll(Sort sort) {
-        // sort is not supported in the driver yet. TODO change this when it is added to the driver
-        return findAll();
+        Assert.notNull(sort, "The given sort must not be null");
+
+        return tarantoolOperations.findAll(sort, entityInformation.getJavaType());
     }
 
     @Override
     public Page<T> findAll(Pageable pageable) {
-        throw new UnsupportedOperationException("Count and paging are not supported in the driver yet");
+        Assert.notNull(pageable, "The given pageable must not be null");
+
+        Slice<T> slice = tarantoolOperations.findAll(pageable, entityInformation.getJavaType());
+        return PageableExecutionUtils.getPage(slice.getContent(), slice.getPageable(),
+                () -> tarantoolOperations.count(Conditions.any(), entityInformation.getJavaType()));
+    }
+
+    @Override
+    public Slice<T> findSlice(Pageable pageable) {
+        Assert.notNull(pageable, "The given pageable must not be null");
+
+        return tarantoolOperations.findAll(pageable, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Slice<T> findSlice(Conditions query, Pageable pageable) {
+        Assert.notNull(query, "The given query must not be null");
+        Assert.notNull(pageable, "The given pageable must not be null");
+
+        return tarantoolOperations.find(query, pageable, entityInformation.getJavaType());
     }
 
     @Override
     public Iterable<T> findAllById(Iterable<ID> ids) {
-        throw new UnsupportedOperationException("Search by multiple ids is not supported in the driver yet");
+        Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return new ArrayList<>(tarantoolOperations.findAllById(idList, entityInformation.getJavaType()).values());
     }
 
     @Override
@@ -60,7 +87,9 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
 
     @Override
     public boolean existsById(ID id) {
-        return findById(id).isPresent();
+        Assert.notNull(id, "The given id must not be null");
+
+        return tarantoolOperations.existsById(id, entityInformation.getJavaType());
     }
 
     @Override
@@ -72,20 +101,16 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
         Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-        List<S> result = new ArrayList<>();
-        for (S entity : entities) {
-            result.add(save(entity));
-        }
-
-        return result;
+        return tarantoolOperations.saveAll(entities, (Class<S>) entityInformation.getJavaType());
     }
 
     @Override
     public long count() {
-        throw new UnsupportedOperationException("Count and paging are not supported in the driver yet");
+        return tarantoolOperations.count(Conditions.any(), entityInformation.getJavaType());
     }
 
     @Override
@@ -104,12 +129,20 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
 
     @Override
     public void deleteAllById(Iterable<? extends ID> ids) {
-        throw new UnsupportedOperationException("Delete by multiple ids is not supported in the driver yet");
+        Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        tarantoolOperations.deleteAllById(idList, entityInformation.getJavaType());
     }
 
     @Override
     public void deleteAll(Iterable<? extends T> iterable) {
-        throw new UnsupportedOperationException("Delete by multiple ids is not supported in the driver yet");
+        Assert.notNull(iterable, "The given Iterable of entities must not be null");
+
+        List<T> entities = new ArrayList<>();
+        iterable.forEach(entities::add);
+        tarantoolOperations.deleteAll(entities, entityInformation.getJavaType());
     }
 
     @Override
@@ -123,4 +156,16 @@ public class SimpleTarantoolRepository<T, ID> implements TarantoolRepository<T,
 
         return tarantoolOperations.update(query, entity, entityInformation.getJavaType());
     }
+
+    @Override
+    public Stream<T> stream(Conditions query) {
+        Assert.notNull(query, "The given query must not be null");
+
+        return tarantoolOperations.stream(query, entityInformation.getJavaType());
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        return tarantoolOperations.streamAll(entityInformation.getJavaType());
+    }
 }
@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.tarantool.config.AbstractReactiveTarantoolDataConfiguration;
 import org.springframework.data.tarantool.config.AbstractTarantoolDataConfiguration;
 
 import java.time.LocalDate;
@@ -24,7 +25,7 @@ import java.util.List;
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class BaseConfig extends AbstractTarantoolDataConfiguration {
+public class BaseConfig extends AbstractReactiveTarantoolDataConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractTarantoolDataConfiguration.class);
 
@@ -3,6 +3,7 @@ package org.springframework.data.tarantool;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.tarantool.repository.BookRepository;
+import org.springframework.data.tarantool.repository.config.EnableReactiveTarantoolRepositories;
 import org.springframework.data.tarantool.repository.config.EnableTarantoolRepositories;
 
 /**
@@ -11,6 +12,7 @@ import org.springframework.data.tarantool.repository.config.EnableTarantoolRepos
  */
 @Configuration
 @EnableTarantoolRepositories(basePackageClasses = {BookRepository.class})
+@EnableReactiveTarantoolRepositories(basePackageClasses = {BookRepository.class})
 @EnableAutoConfiguration
 public class TestConfig extends BaseConfig {
 }
@@ -0,0 +1,196 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.tarantool.core.mapping.TarantoolBloomFilter;
+import org.springframework.data.tarantool.core.mapping.TarantoolChangeTracking;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind;
+import org.springframework.data.tarantool.core.mapping.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks how the write hooks update the policies of the entities stored in the same space. Does not need Tarantool.
+ */
+class EntityWritePoliciesTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final TarantoolMappingContext mappingContext = new TarantoolMappingContext();
+    private final List<EntityWritePolicies> spacePolicies = new ArrayList<>();
+    private final List<Object> flushed = new ArrayList<>();
+
+    @Test
+    void test_write_shouldAddKeyToFilterReloadedWhileWriteIsInFlight() throws InterruptedException {
+        //given
+        EntityWritePolicies policies = policiesFor(FilteredEntity.class);
+        KeyBloomFilter filter = policies.getKeyFilter();
+        assertNotNull(filter);
+        filter.loaded(filter.startLoading());
+        Thread.sleep(5);
+        CompletableFuture<Void> request = new CompletableFuture<>();
+
+        //when
+        CompletableFuture<Void> written = policies.write(() -> Collections.singletonList(7L), () -> request);
+        KeyBloomFilter.Generation reload = filter.startLoading();
+        assertNotNull(reload);
+        filter.putLoaded(reload, Collections.emptyList());
+        request.complete(null);
+        written.join();
+        filter.loaded(reload);
+
+        //then
+        assertTrue(filter.mightContain(7L));
+        assertFalse(filter.mightContain(8L));
+    }
+
+    @Test
+    void test_write_shouldAddKeyToFiltersOfOtherEntitiesOfSpace() {
+        //given
+        KeyBloomFilter filter = policiesFor(FilteredEntity.class).getKeyFilter();
+        assertNotNull(filter);
+        filter.loaded(filter.startLoading());
+        EntityWritePolicies plain = policiesFor(PlainEntity.class);
+
+        //when
+        plain.write(() -> Collections.singletonList(7L), () -> CompletableFuture.completedFuture(null)).join();
+
+        //then
+        assertTrue(filter.mightContain(7L));
+    }
+
+    @Test
+    void test_update_shouldForgetRecordsChangedInPlace() {
+        //given
+        EntityWritePolicies policies = policiesFor(TrackedEntity.class);
+        ChangeTracker tracker = policies.getChangeTracker();
+        assertNotNull(tracker);
+        tracker.snapshot(7L, tuple(7L, "Vasya"));
+        tracker.snapshot(8L, tuple(8L, "Petya"));
+
+        //when
+        policies.update(() -> Collections.singletonList(7L), () -> CompletableFuture.completedFuture(null)).join();
+
+        //then
+        assertNull(tracker.changedFields(7L, tuple(7L, "Vasya"), allFields()));
+        assertNotNull(tracker.changedFields(8L, tuple(8L, "Petya"), allFields()));
+
+        //when
+        policies.update(null, () -> CompletableFuture.completedFuture(null)).join();
+
+        //then
+        assertNull(tracker.changedFields(8L, tuple(8L, "Petya"), allFields()));
+    }
+
+    @Test
+    void test_write_shouldForgetRecordsWrittenThroughOtherEntityOfSpace() {
+        //given
+        EntityWritePolicies policies = policiesFor(TrackedEntity.class);
+        ChangeTracker tracker = policies.getChangeTracker();
+        assertNotNull(tracker);
+        tracker.snapshot(7L, tuple(7L, "Vasya"));
+        tracker.snapshot(8L, tuple(8L, "Petya"));
+        EntityWritePolicies plain = policiesFor(PlainEntity.class);
+
+        //when
+        policies.write(() -> Collections.singletonList(8L), () -> CompletableFuture.completedFuture(null)).join();
+        plain.write(() -> Collections.singletonList(7L), () -> CompletableFuture.completedFuture(null)).join();
+
+        //then
+        assertNull(tracker.changedFields(7L, tuple(7L, "Vasya"), allFields()));
+        assertNotNull(tracker.changedFields(8L, tuple(8L, "Petya"), allFields()));
+    }
+
+    @Test
+    void test_write_shouldWaitForEntitiesBufferedThroughOtherEntityOfSpace() {
+        //given
+        EntityWritePolicies buffered = policiesFor(BufferedEntity.class);
+        EntityWritePolicies plain = policiesFor(PlainEntity.class);
+        buffered.save(new BufferedEntity(7L), () -> CompletableFuture.completedFuture(null)).join();
+        buffered.save(new BufferedEntity(8L), () -> CompletableFuture.completedFuture(null)).join();
+        List<Object> flushedBeforeWrite = new ArrayList<>();
+
+        //when
+        plain.write(() -> Collections.singletonList(7L), () -> {
+            flushedBeforeWrite.addAll(flushed);
+            return CompletableFuture.completedFuture(null);
+        }).join();
+
+        //then
+        assertEquals(2, flushedBeforeWrite.size());
+
+        //when
+        buffered.save(new BufferedEntity(9L), () -> CompletableFuture.completedFuture(null)).join();
+        plain.remove(Collections.singletonList(9L), () -> CompletableFuture.completedFuture(null)).join();
+        buffered.getWriteBehindBuffer().flush().join();
+
+        //then
+        assertEquals(2, flushed.size());
+    }
+
+    private TarantoolTuple tuple(Object... fields) {
+        return new TarantoolTupleImpl(Arrays.asList(fields), mapper);
+    }
+
+    private static BitSet allFields() {
+        BitSet fields = new BitSet();
+        fields.set(0, 2);
+        return fields;
+    }
+
+    private EntityWritePolicies policiesFor(Class<?> entityClass) {
+        EntityWritePolicies policies = EntityWritePolicies.of(mappingContext.getRequiredPersistentEntity(entityClass),
+                mapper, entities -> {
+                    flushed.addAll(entities);
+                    return CompletableFuture.completedFuture(null);
+                }, () -> spacePolicies);
+        spacePolicies.add(policies);
+        return policies;
+    }
+
+    @Tuple("entities")
+    @TarantoolBloomFilter(expectedRecords = 1000, reloadInterval = 1)
+    static class FilteredEntity {
+        @Id
+        private Long id;
+    }
+
+    @Tuple("entities")
+    @TarantoolChangeTracking
+    static class TrackedEntity {
+        @Id
+        private Long id;
+    }
+
+    @Tuple("entities")
+    @TarantoolWriteBehind(flushInterval = 60_000)
+    static class BufferedEntity {
+        @Id
+        private final Long id;
+
+        BufferedEntity(Long id) {
+            this.id = id;
+        }
+    }
+
+    @Tuple("entities")
+    static class PlainEntity {
+        @Id
+        private Long id;
+    }
+}
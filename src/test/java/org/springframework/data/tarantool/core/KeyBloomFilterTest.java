@@ -0,0 +1,122 @@
+package org.springframework.data.tarantool.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the loading, reloading and invalidation of the negative lookup filter. Does not need Tarantool.
+ */
+class KeyBloomFilterTest {
+
+    @Test
+    void test_mightContain_shouldAnswerOnlyAfterKeysAreLoaded() {
+        //given
+        KeyBloomFilter filter = new KeyBloomFilter("customers", Long.class, 1000, 0.01, 0);
+        KeyBloomFilter.Generation generation = filter.startLoading();
+        assertNotNull(generation);
+        filter.putLoaded(generation, Arrays.asList(1L, 2L));
+
+        //then
+        assertTrue(filter.mightContain(100L));
+        assertNull(filter.startLoading());
+
+        //when
+        filter.loaded(generation);
+
+        //then
+        assertTrue(filter.mightContain(1L));
+        assertTrue(filter.mightContain(2L));
+        assertFalse(filter.mightContain(100L));
+        assertNull(filter.startLoading());
+    }
+
+    @Test
+    void test_putAll_shouldAddWrittenKeysToGenerationBeingReloaded() throws InterruptedException {
+        //given
+        KeyBloomFilter filter = new KeyBloomFilter("customers", Long.class, 1000, 0.01, 1);
+        KeyBloomFilter.Generation first = filter.startLoading();
+        filter.putLoaded(first, Collections.singletonList(1L));
+        filter.loaded(first);
+        Thread.sleep(5);
+
+        //when
+        KeyBloomFilter.Generation second = filter.startLoading();
+        assertNotNull(second);
+        filter.putAll(Collections.singletonList(2L));
+        filter.putLoaded(second, Collections.singletonList(3L));
+
+        //then
+        assertTrue(filter.mightContain(1L));
+        assertTrue(filter.mightContain(2L));
+        assertFalse(filter.mightContain(3L));
+
+        //when
+        filter.loaded(second);
+
+        //then
+        assertFalse(filter.mightContain(1L));
+        assertTrue(filter.mightContain(2L));
+        assertTrue(filter.mightContain(3L));
+    }
+
+    @Test
+    void test_invalidate_shouldDropLoadedKeysAndIgnoreLoadInFlight() {
+        //given
+        KeyBloomFilter filter = new KeyBloomFilter("customers", Long.class, 1000, 0.01, 0);
+        KeyBloomFilter.Generation first = filter.startLoading();
+        filter.loaded(first);
+        assertFalse(filter.mightContain(1L));
+
+        //when
+        filter.invalidate();
+
+        //then
+        assertTrue(filter.mightContain(1L));
+
+        //when
+        KeyBloomFilter.Generation stale = filter.startLoading();
+        filter.invalidate();
+        KeyBloomFilter.Generation fresh = filter.startLoading();
+        filter.putLoaded(fresh, Collections.singletonList(1L));
+        filter.loaded(stale);
+
+        //then
+        assertTrue(filter.mightContain(2L));
+
+        //when
+        filter.loaded(fresh);
+
+        //then
+        assertTrue(filter.mightContain(1L));
+        assertFalse(filter.mightContain(2L));
+    }
+
+    @Test
+    void test_putAll_shouldDisableFilterUntilInvalidatedForUnknownKey() {
+        //given
+        KeyBloomFilter filter = new KeyBloomFilter("customers", UUID.class, 1000, 0.01, 0);
+        filter.loaded(filter.startLoading());
+
+        //when
+        filter.putAll(Collections.singletonList(null));
+
+        //then
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+        assertNull(filter.startLoading());
+
+        //when
+        filter.invalidate();
+        filter.loaded(filter.startLoading());
+
+        //then
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+    }
+}
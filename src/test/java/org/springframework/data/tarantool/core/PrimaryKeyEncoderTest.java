@@ -0,0 +1,155 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.protocol.TarantoolIndexQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.tarantool.core.convert.MappingTarantoolConverter;
+import org.springframework.data.tarantool.core.convert.TarantoolCustomConversions;
+import org.springframework.data.tarantool.core.convert.TarantoolMapTypeAliasAccessor;
+import org.springframework.data.tarantool.core.convert.TarantoolTupleTypeMapper;
+import org.springframework.data.tarantool.core.mapping.TarantoolMappingContext;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.core.mapping.Tuple;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.data.tarantool.core.TarantoolTemplateUtils.getIndexPartValues;
+
+/**
+ * Checks that the primary key encoder builds the same conditions as the entity converter, and leaves the converted
+ * identifiers to the converter. Does not need Tarantool.
+ */
+class PrimaryKeyEncoderTest {
+
+    private final TarantoolCustomConversions conversions =
+            new TarantoolCustomConversions(Collections.singletonList(new OrderNumberToStringConverter()));
+    private final TarantoolMappingContext mappingContext = createMappingContext(conversions);
+    private final MappingTarantoolConverter converter = createConverter(mappingContext, conversions);
+
+    @Test
+    void test_encode_shouldMatchConverterForLongId() {
+        assertSameAsConverter(LongIdEntity.class, 42L);
+    }
+
+    @Test
+    void test_encode_shouldMatchConverterForStringId() {
+        assertSameAsConverter(StringIdEntity.class, "key-42");
+    }
+
+    @Test
+    void test_encode_shouldMatchConverterForUuidId() {
+        assertSameAsConverter(UuidIdEntity.class, UUID.fromString("3f2a56c4-3e2d-4e5e-9d0b-8f4c9a1d2e7b"));
+    }
+
+    @Test
+    void test_encode_shouldLeaveIdWithCustomConversionToConverter() {
+        //given
+        PrimaryKeyEncoder encoder = encoderFor(OrderNumberIdEntity.class);
+        OrderNumber id = new OrderNumber(42);
+
+        //when
+        Conditions encoded = encoder.encode(id);
+
+        //then
+        assertNull(encoded);
+        assertEquals(Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, Collections.singletonList("N-42")),
+                convert(id, encoder.getEntity()));
+    }
+
+    @Test
+    void test_encode_shouldLeaveIdOfOtherTypeToConverter() {
+        //given
+        PrimaryKeyEncoder encoder = encoderFor(LongIdEntity.class);
+
+        //when
+        Conditions encoded = encoder.encode(42);
+
+        //then
+        assertNull(encoded);
+    }
+
+    private void assertSameAsConverter(Class<?> entityClass, Object id) {
+        //given
+        PrimaryKeyEncoder encoder = encoderFor(entityClass);
+
+        //when
+        Conditions encoded = encoder.encode(id);
+
+        //then
+        assertNotNull(encoded);
+        assertEquals(convert(id, encoder.getEntity()), encoded);
+    }
+
+    private PrimaryKeyEncoder encoderFor(Class<?> entityClass) {
+        return PrimaryKeyEncoder.of(mappingContext.getRequiredPersistentEntity(entityClass), conversions);
+    }
+
+    private Conditions convert(Object id, TarantoolPersistentEntity<?> entity) {
+        List<Object> converted = new LinkedList<>();
+        converter.write(getIndexPartValues(id, entity), converted);
+        return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, converted);
+    }
+
+    private static TarantoolMappingContext createMappingContext(TarantoolCustomConversions conversions) {
+        TarantoolMappingContext context = new TarantoolMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        return context;
+    }
+
+    private static MappingTarantoolConverter createConverter(TarantoolMappingContext mappingContext,
+                                                             TarantoolCustomConversions conversions) {
+        MappingTarantoolConverter converter = new MappingTarantoolConverter(mappingContext,
+                new TarantoolMapTypeAliasAccessor(TarantoolTupleTypeMapper.DEFAULT_TYPE_KEY), conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    @Tuple("long_ids")
+    static class LongIdEntity {
+        @Id
+        private Long id;
+    }
+
+    @Tuple("string_ids")
+    static class StringIdEntity {
+        @Id
+        private String id;
+    }
+
+    @Tuple("uuid_ids")
+    static class UuidIdEntity {
+        @Id
+        private UUID id;
+    }
+
+    @Tuple("orders")
+    static class OrderNumberIdEntity {
+        @Id
+        private OrderNumber id;
+    }
+
+    static final class OrderNumber {
+        private final int value;
+
+        OrderNumber(int value) {
+            this.value = value;
+        }
+    }
+
+    @WritingConverter
+    static final class OrderNumberToStringConverter implements Converter<OrderNumber, String> {
+        @Override
+        public String convert(OrderNumber source) {
+            return "N-" + source.value;
+        }
+    }
+}
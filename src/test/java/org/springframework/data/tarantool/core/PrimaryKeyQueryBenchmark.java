@@ -0,0 +1,88 @@
+package org.springframework.data.tarantool.core;
+
+import io.tarantool.driver.api.conditions.Conditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.tarantool.config.AbstractTarantoolDataConfiguration;
+import org.springframework.data.tarantool.core.mapping.TarantoolPersistentEntity;
+import org.springframework.data.tarantool.entities.Customer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.tarantool.core.TarantoolTemplateUtils.getIndexPartValues;
+
+/**
+ * Compares building the primary key conditions with the entity converter and with the primary key encoder. The
+ * template is not connected to Tarantool. Run with the allocation profiler:
+ * <pre>
+ * mvn -Pbenchmark test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *     org.springframework.data.tarantool.core.PrimaryKeyQueryBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimaryKeyQueryBenchmark {
+
+    private final Long id = 42L;
+    private AnnotationConfigApplicationContext context;
+    private TarantoolTemplate template;
+    private TarantoolPersistentEntity<?> entity;
+
+    @Configuration
+    static class BenchmarkConfig extends AbstractTarantoolDataConfiguration {
+        @Override
+        protected Collection<String> getMappingBasePackages() {
+            return Collections.singleton(Customer.class.getPackage().getName());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        template = context.getBean(TarantoolTemplate.class);
+        entity = template.getMappingContext().getRequiredPersistentEntity(Customer.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Conditions idQueryWithConverter() {
+        return template.createIndexEqualsConditionFromParts(getIndexPartValues(id, entity));
+    }
+
+    @Benchmark
+    public Conditions idQueryWithEncoder() {
+        return template.idQueryFromObject(id, Customer.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimaryKeyQueryBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
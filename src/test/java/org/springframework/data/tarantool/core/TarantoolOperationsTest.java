@@ -10,27 +10,48 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.tarantool.BaseIntegrationTest;
+import org.springframework.data.tarantool.core.query.TarantoolPageRequest;
 import org.springframework.data.tarantool.entities.Address;
 import org.springframework.data.tarantool.entities.Book;
+import org.springframework.data.tarantool.entities.BookSummary;
+import org.springframework.data.tarantool.entities.BookTitle;
+import org.springframework.data.tarantool.entities.BufferedCustomer;
+import org.springframework.data.tarantool.entities.CachedCustomer;
+import org.springframework.data.tarantool.entities.FilteredCustomer;
 import org.springframework.data.tarantool.entities.Customer;
 import org.springframework.data.tarantool.entities.SampleUser;
+import org.springframework.data.tarantool.entities.TrackedCustomer;
+import org.springframework.data.tarantool.exceptions.TarantoolBatchOperationException;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -177,6 +198,25 @@ class TarantoolOperationsTest extends BaseIntegrationTest {
         assertEquals("Tales", byBook.get(0).getFavouriteBooks().get(0).getName());
     }
 
+    @Test
+    void test_callForTupleList_shouldReuseResultMapper() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        Book[] parameters = new Book[]{vasya.getFavouriteBooks().get(0)};
+        template.callForTupleList("find_customer_by_book", parameters, "customers", Customer.class);
+        long hits = template.getResultMapperCacheHitCount();
+        long misses = template.getResultMapperCacheMissCount();
+
+        //when
+        List<Customer> byBook =
+                template.callForTupleList("find_customer_by_book", parameters, "customers", Customer.class);
+
+        //then
+        assertEquals("Tales", byBook.get(0).getFavouriteBooks().get(0).getName());
+        assertEquals(hits + 1, template.getResultMapperCacheHitCount());
+        assertEquals(misses, template.getResultMapperCacheMissCount());
+    }
+
     @Test
     public void test_callForObjectList_shouldReturningNonEntityAndAcceptingNonEntity() {
         //given
@@ -259,6 +299,446 @@ class TarantoolOperationsTest extends BaseIntegrationTest {
         }
     }
 
+    @Test
+    void test_updateAll_shouldReturnNumberOfUpdatedRecords() {
+        //given
+        Address newAddress = Address.builder().city("Vladimir").street("Moskovskaya").number(123).build();
+        Customer update = Customer.builder()
+                .workAddress(newAddress)
+                .build();
+
+        //when
+        long count = tarantoolOperations.updateAll(Conditions.greaterThan("id", 1L), update, Customer.class);
+
+        //then
+        assertEquals(2, count);
+        assertEquals("Vladimir", tarantoolOperations.findById(2L, Customer.class).getWorkAddress().getCity());
+        assertEquals("Vladimir", tarantoolOperations.findById(3L, Customer.class).getWorkAddress().getCity());
+        assertEquals(0, tarantoolOperations.updateAll(Conditions.equals("name", "Nobody"), update, Customer.class));
+    }
+
+    @Test
+    void test_async_shouldConvertLargeResultsWithExecutionStrategy() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        TarantoolExecutionStrategy executionStrategy = template.getExecutionStrategy();
+        int inlineDecodeThreshold = template.getInlineDecodeThreshold();
+
+        try {
+            //when
+            template.setInlineDecodeThreshold(4);
+            long completedTasks = executionStrategy.getCompletedTasks() + executionStrategy.getActiveWorkers();
+            List<Customer> small = template.async().findAll(Customer.class).join();
+            long afterSmall = executionStrategy.getCompletedTasks() + executionStrategy.getActiveWorkers();
+
+            template.setInlineDecodeThreshold(0);
+            List<Customer> large = template.async().findAll(Customer.class).join();
+
+            //then
+            assertEquals(3, small.size());
+            assertEquals(3, large.size());
+            assertEquals(completedTasks, afterSmall);
+            assertTrue(executionStrategy.getCompletedTasks() + executionStrategy.getActiveWorkers() > afterSmall);
+        } finally {
+            template.setInlineDecodeThreshold(inlineDecodeThreshold);
+        }
+    }
+
+    @Test
+    void test_refreshMetadata_shouldKeepOperationsWorking() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        Customer customer = template.findById(1L, Customer.class);
+
+        //when
+        template.refreshMetadata();
+        Customer saved = template.save(customer, Customer.class);
+
+        //then
+        assertEquals(vasya.getName(), saved.getName());
+        assertEquals(vasya.getName(), template.findById(1L, Customer.class).getName());
+    }
+
+    @Test
+    void test_findById_shouldReturnCachedEntityUntilItIsWritten() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        CachedCustomer customer = CachedCustomer.builder()
+                .id(10L)
+                .name("Kolya")
+                .tags(Collections.singletonList("cached"))
+                .addresses(generateAddresses())
+                .build();
+        template.save(customer, CachedCustomer.class);
+        TarantoolCacheStatistics before = template.getCacheStatistics(CachedCustomer.class);
+
+        //when
+        CachedCustomer first = template.findById(10L, CachedCustomer.class);
+        first.setName("Changed");
+        CachedCustomer second = template.findById(10L, CachedCustomer.class);
+
+        //then
+        assertEquals("Kolya", second.getName());
+        TarantoolCacheStatistics statistics = template.getCacheStatistics(CachedCustomer.class);
+        assertEquals(before.getHitCount() + 1, statistics.getHitCount());
+        assertEquals(before.getMissCount() + 1, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+
+        //when
+        customer.setName("Nikolay");
+        template.save(customer, CachedCustomer.class);
+
+        //then
+        assertEquals("Nikolay", template.findById(10L, CachedCustomer.class).getName());
+        assertEquals(before.getMissCount() + 2, template.getCacheStatistics(CachedCustomer.class).getMissCount());
+        assertNull(template.getCacheStatistics(Customer.class));
+
+        template.removeById(10L, CachedCustomer.class);
+        assertNull(template.findById(10L, CachedCustomer.class));
+    }
+
+    @Test
+    void test_save_shouldDropCachedRecordWrittenThroughOtherEntityOfSpace() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        assertEquals("Vasya", template.findById(1L, CachedCustomer.class).getName());
+        Customer renamed = Customer.builder()
+                .id(1L)
+                .name("Vasily")
+                .tags(vasya.getTags())
+                .addresses(vasya.getAddresses())
+                .build();
+
+        //when
+        template.save(renamed, Customer.class);
+
+        //then
+        assertEquals("Vasily", template.findById(1L, CachedCustomer.class).getName());
+
+        //when
+        template.updateById(1L, TarantoolUpdate.set("name", "Vasya"), Customer.class);
+
+        //then
+        assertEquals("Vasya", template.findById(1L, CachedCustomer.class).getName());
+
+        //when
+        template.removeById(1L, Customer.class);
+
+        //then
+        assertNull(template.findById(1L, CachedCustomer.class));
+    }
+
+    @Test
+    void test_updateById_shouldApplyFieldOperationsOnServer() {
+        //when
+        Book updated = tarantoolOperations.updateById(4,
+                TarantoolUpdate.add("year", 10).andSet("name", "Fairy Tales"), Book.class);
+
+        //then
+        assertEquals(1579, updated.getYear());
+        assertEquals("Fairy Tales", updated.getName());
+        assertEquals("Grimm Brothers", updated.getAuthor());
+        assertNull(tarantoolOperations.updateById(100, TarantoolUpdate.add("year", 1), Book.class));
+    }
+
+    @Test
+    void test_find_shouldReadProjectionsFromSelectedFields() {
+        //when
+        List<BookSummary> summaries = tarantoolOperations.find(
+                Conditions.equals("id", 4), Book.class, BookSummary.class);
+        List<BookTitle> titles = tarantoolOperations.find(Conditions.equals("id", 4), Book.class, BookTitle.class);
+
+        //then
+        assertEquals(1, summaries.size());
+        assertEquals("Tales", summaries.get(0).getName());
+        assertEquals(1569, summaries.get(0).getYear());
+        assertEquals(book.getIssuerAddress(), summaries.get(0).getIssuerAddress());
+        assertEquals(1, titles.size());
+        assertEquals("Tales", titles.get(0).getName());
+        assertEquals("Grimm Brothers", titles.get(0).getAuthor());
+    }
+
+    @Test
+    void test_upsert_shouldInsertOrUpdateRecord() {
+        //given
+        Book newBook = Book.builder()
+                .id(5)
+                .name("Kalevala")
+                .uniqueKey("udf66")
+                .author("Elias Lonnrot")
+                .year(1835)
+                .build();
+
+        //when
+        tarantoolOperations.upsert(newBook, TarantoolUpdate.add("year", 1), Book.class);
+
+        //then
+        assertEquals(1835, tarantoolOperations.findById(5, Book.class).getYear());
+
+        //when
+        tarantoolOperations.upsert(newBook, TarantoolUpdate.add("year", 1), Book.class);
+
+        //then
+        assertEquals(1836, tarantoolOperations.findById(5, Book.class).getYear());
+
+        tarantoolOperations.removeById(5, Book.class);
+    }
+
+    @Test
+    void test_save_shouldSendOnlyChangedFieldsOfTrackedEntity() {
+        //given
+        tarantoolOperations.save(TrackedCustomer.builder()
+                .id(12L)
+                .name("Kolya")
+                .tags(Collections.singletonList("tracked"))
+                .addresses(generateAddresses())
+                .build(), TrackedCustomer.class);
+        TrackedCustomer loaded = tarantoolOperations.findById(12L, TrackedCustomer.class);
+        tarantoolClient.eval("return require('crud').update('customers', 12, {{'=', 'name', 'Nikolay'}})").join();
+
+        //when
+        TrackedCustomer unchanged = tarantoolOperations.save(loaded, TrackedCustomer.class);
+        loaded.setTags(Collections.singletonList("changed"));
+        TrackedCustomer saved = tarantoolOperations.save(loaded, TrackedCustomer.class);
+
+        //then
+        assertSame(loaded, unchanged);
+        assertEquals("Nikolay", saved.getName());
+        assertEquals(Collections.singletonList("changed"), saved.getTags());
+
+        //when
+        tarantoolOperations.removeById(12L, TrackedCustomer.class);
+        tarantoolOperations.save(loaded, TrackedCustomer.class);
+
+        //then
+        assertEquals("Kolya", tarantoolOperations.findById(12L, TrackedCustomer.class).getName());
+    }
+
+    @Test
+    void test_save_shouldReplaceRecordOfTrackedEntityUpdatedInPlace() {
+        //given
+        tarantoolOperations.save(TrackedCustomer.builder()
+                .id(16L)
+                .name("Kolya")
+                .tags(Collections.singletonList("tracked"))
+                .addresses(generateAddresses())
+                .build(), TrackedCustomer.class);
+        TrackedCustomer loaded = tarantoolOperations.findById(16L, TrackedCustomer.class);
+        tarantoolOperations.upsert(loaded, TarantoolUpdate.set("name", "Nikolay"), TrackedCustomer.class);
+
+        //when
+        tarantoolOperations.save(loaded, TrackedCustomer.class);
+
+        //then
+        assertEquals("Kolya", tarantoolOperations.findById(16L, TrackedCustomer.class).getName());
+
+        //when
+        tarantoolOperations.updateAll(Conditions.equals("id", 16L),
+                TrackedCustomer.builder().name("Nikolay").build(), TrackedCustomer.class);
+        tarantoolOperations.save(loaded, TrackedCustomer.class);
+
+        //then
+        assertEquals("Kolya", tarantoolOperations.findById(16L, TrackedCustomer.class).getName());
+
+        //when
+        tarantoolOperations.save(Customer.builder()
+                .id(16L)
+                .name("Nikolay")
+                .tags(Collections.singletonList("tracked"))
+                .addresses(generateAddresses())
+                .build(), Customer.class);
+        tarantoolOperations.save(loaded, TrackedCustomer.class);
+
+        //then
+        assertEquals("Kolya", tarantoolOperations.findById(16L, TrackedCustomer.class).getName());
+
+        tarantoolOperations.removeById(16L, TrackedCustomer.class);
+    }
+
+    @Test
+    void test_save_shouldWriteLastBufferedEntityOnFlush() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        BufferedCustomer customer = BufferedCustomer.builder()
+                .id(11L)
+                .name("Kolya")
+                .tags(Collections.singletonList("buffered"))
+                .addresses(generateAddresses())
+                .build();
+        TarantoolWriteBehindStatistics before = template.getWriteBehindStatistics(BufferedCustomer.class);
+
+        //when
+        template.save(customer, BufferedCustomer.class);
+        customer.setName("Nikolay");
+        template.save(customer, BufferedCustomer.class);
+
+        //then
+        assertNull(template.findById(11L, BufferedCustomer.class));
+
+        //when
+        template.flush();
+
+        //then
+        assertEquals("Nikolay", template.findById(11L, BufferedCustomer.class).getName());
+        TarantoolWriteBehindStatistics statistics = template.getWriteBehindStatistics(BufferedCustomer.class);
+        assertEquals(before.getBufferedCount() + 2, statistics.getBufferedCount());
+        assertEquals(before.getCoalescedCount() + 1, statistics.getCoalescedCount());
+        assertEquals(before.getFlushedCount() + 1, statistics.getFlushedCount());
+        assertEquals(0, statistics.getSize());
+        assertNull(template.getWriteBehindStatistics(Customer.class));
+
+        //when
+        template.save(customer, BufferedCustomer.class);
+        template.removeById(11L, BufferedCustomer.class);
+        template.flush();
+
+        //then
+        assertNull(template.findById(11L, BufferedCustomer.class));
+    }
+
+    @Test
+    void test_save_shouldWriteBufferedEntityBeforeSavingSameIdThroughOtherEntityOfSpace() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        template.save(BufferedCustomer.builder()
+                .id(17L)
+                .name("Kolya")
+                .tags(Collections.singletonList("buffered"))
+                .addresses(generateAddresses())
+                .build(), BufferedCustomer.class);
+
+        //when
+        template.save(Customer.builder()
+                .id(17L)
+                .name("Nikolay")
+                .tags(Collections.singletonList("unbuffered"))
+                .addresses(generateAddresses())
+                .build(), Customer.class);
+        template.flush();
+
+        //then
+        assertEquals("Nikolay", template.findById(17L, BufferedCustomer.class).getName());
+
+        template.removeById(17L, Customer.class);
+    }
+
+    @Test
+    void test_asyncSave_shouldNotBlockDriverThreadWhenBufferIsFull() throws Exception {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        List<BufferedCustomer> customers = Stream.of(21L, 22L, 23L, 24L, 25L)
+                .map(id -> BufferedCustomer.builder()
+                        .id(id)
+                        .name("Customer " + id)
+                        .tags(Collections.singletonList("buffered"))
+                        .addresses(generateAddresses())
+                        .build())
+                .collect(Collectors.toList());
+        long flushed = template.getWriteBehindStatistics(BufferedCustomer.class).getFlushedCount();
+
+        //when
+        CompletableFuture<Void> saved = template.async().findById(1L, Customer.class)
+                .thenCompose(found -> CompletableFuture.allOf(customers.stream()
+                        .map(customer -> template.async().save(customer, BufferedCustomer.class))
+                        .toArray(CompletableFuture[]::new)));
+
+        //then
+        saved.get(5, TimeUnit.SECONDS);
+        template.flush();
+        for (BufferedCustomer customer : customers) {
+            assertEquals(customer.getName(), template.findById(customer.getId(), BufferedCustomer.class).getName());
+        }
+        assertEquals(flushed + 5, template.getWriteBehindStatistics(BufferedCustomer.class).getFlushedCount());
+    }
+
+    @Test
+    void test_findById_shouldShareRequestBetweenConcurrentCalls() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        template.setRequestCoalescing(true);
+        try {
+            //when
+            List<CompletableFuture<Customer>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(template.async().findById(1L, Customer.class));
+            }
+            List<Customer> customers = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+            //then
+            assertTrue(template.getCoalescedRequestCount() > 0);
+            assertTrue(customers.stream().allMatch(customer -> vasya.getName().equals(customer.getName())));
+            assertTrue(customers.get(0) != customers.get(1));
+        } finally {
+            template.setRequestCoalescing(false);
+        }
+    }
+
+    @Test
+    void test_batchLoader_shouldFetchCollectedIdsTogether() {
+        //given
+        TarantoolBatchLoader<Customer, Long> loader =
+                new TarantoolBatchLoader<>(tarantoolOperations, Customer.class, Duration.ofSeconds(10), 3);
+
+        //when
+        CompletableFuture<Customer> first = loader.load(1L);
+        CompletableFuture<Customer> second = loader.load(2L);
+        CompletableFuture<Customer> missing = loader.load(123L);
+
+        //then
+        assertEquals(vasya.getName(), first.join().getName());
+        assertEquals(petya.getName(), second.join().getName());
+        assertNull(missing.join());
+        assertEquals(1, loader.getBatchCount());
+        assertEquals(3, loader.getLoadCount());
+    }
+
+    @Test
+    void test_withTimeout_shouldThrowExceptionIfNotCompletedInTime() {
+        //given
+        long startTime = System.nanoTime();
+
+        //when
+        assertThrows(QueryTimeoutException.class, () -> tarantoolOperations.withTimeout(Duration.ofMillis(100),
+                () -> tarantoolOperations.callForObject("sleep_for", Collections.singletonList(2), Boolean.class)));
+
+        //then
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(true, tarantoolOperations.withTimeout(Duration.ofSeconds(2),
+                () -> tarantoolOperations.callForObject("sleep_for", Collections.singletonList(0), Boolean.class)));
+    }
+
+    @Test
+    void test_defaultTimeout_shouldBoundSyncOperation() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        template.setDefaultTimeout(Duration.ofMillis(100));
+        long startTime = System.nanoTime();
+
+        try {
+            //when
+            assertThrows(QueryTimeoutException.class, () ->
+                    template.callForObject("sleep_for", Collections.singletonList(2), Boolean.class));
+
+            //then
+            assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofSeconds(2)) < 0);
+        } finally {
+            template.setDefaultTimeout(null);
+        }
+    }
+
+    @Test
+    void test_syncOperation_shouldKeepInterruptFlagWhenInterrupted() {
+        //given
+        Thread.currentThread().interrupt();
+
+        //when
+        assertThrows(DataAccessException.class, () ->
+                tarantoolOperations.callForObject("sleep_for", Collections.singletonList(1), Boolean.class));
+
+        //then
+        assertTrue(Thread.interrupted());
+    }
+
     @Test
     void testNonEntityAsReturnType() {
         List<Address> addresses = tarantoolOperations.callForObjectList(
@@ -364,4 +844,243 @@ class TarantoolOperationsTest extends BaseIntegrationTest {
         //then
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    void test_async_shouldReturnEntities_withoutBlocking() throws ExecutionException, InterruptedException {
+        //given
+        TarantoolAsyncOperations asyncOperations = tarantoolOperations.async();
+
+        //when
+        CompletableFuture<Customer> byId = asyncOperations.findById(1L, Customer.class);
+        CompletableFuture<List<Customer>> all = asyncOperations.findAll(Customer.class);
+        CompletableFuture<List<Book>> byIssuer = asyncOperations.callForObjectList("find_book_by_book",
+                Collections.singletonList(book), Book.class);
+
+        //then
+        assertEquals("Vasya", byId.get().getName());
+        assertEquals(3, all.get().size());
+        assertEquals("Riga", byIssuer.get().get(0).getStoreAddresses().get(0).getCity());
+    }
+
+    @Test
+    void test_async_shouldCompleteWithTranslatedException() {
+        //when
+        CompletableFuture<List<Address>> result = tarantoolOperations.async()
+                .callForTupleList("returning_error", Collections.emptyList(), "", Address.class);
+
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertTrue(exception.getCause() instanceof DataRetrievalFailureException);
+        assertTrue(exception.getCause().getMessage().contains("some error"));
+    }
+
+    @Test
+    void test_saveAll_shouldReturnEntities_inInputOrder() {
+        //given
+        List<Customer> customers = new ArrayList<>();
+        for (long id = 100; id > 0; id--) {
+            customers.add(Customer.builder().id(id).name("Customer " + id).build());
+        }
+
+        //when
+        List<Customer> saved = tarantoolOperations.saveAll(customers, Customer.class);
+
+        //then
+        assertEquals(customers.size(), saved.size());
+        for (int i = 0; i < customers.size(); i++) {
+            assertEquals(customers.get(i).getId(), saved.get(i).getId());
+        }
+        assertEquals(100, tarantoolOperations.findAll(Customer.class).size());
+    }
+
+    @Test
+    void test_insertAll_shouldReportFailedItems() {
+        //given
+        Customer newCustomer = Customer.builder().id(10L).name("Kolya").build();
+        Customer duplicate = Customer.builder().id(2L).name("Petya").build();
+
+        //when
+        TarantoolBatchOperationException exception = assertThrows(TarantoolBatchOperationException.class,
+                () -> tarantoolOperations.insertAll(Arrays.asList(newCustomer, duplicate), Customer.class));
+
+        //then
+        assertEquals(Collections.singleton(1), exception.getErrors().keySet());
+        List<Customer> results = exception.getResults();
+        assertEquals("Kolya", results.get(0).getName());
+        assertNull(results.get(1));
+    }
+
+    @Test
+    void test_removeAllById_shouldReturnRemovedEntities_andSkipMissingIds() {
+        //when
+        List<Customer> removed = tarantoolOperations.removeAllById(Arrays.asList(3L, 100L, 1L), Customer.class);
+
+        //then
+        assertEquals(2, removed.size());
+        assertEquals("Tanya", removed.get(0).getName());
+        assertEquals("Vasya", removed.get(1).getName());
+        List<Customer> all = tarantoolOperations.findAll(Customer.class);
+        assertEquals(1, all.size());
+        assertEquals("Petya", all.get(0).getName());
+    }
+
+    @Test
+    void test_deleteAll_shouldReturnNumberOfRemovedRecords() {
+        //when
+        long deleted = tarantoolOperations.deleteAll(Arrays.asList(vasya, petya), Customer.class);
+
+        //then
+        assertEquals(2, deleted);
+        assertEquals(0, tarantoolOperations.deleteAllById(Arrays.asList(1L, 2L), Customer.class));
+        assertEquals(1, tarantoolOperations.findAll(Customer.class).size());
+    }
+
+    @Test
+    void test_stream_shouldFetchAllPages() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        int fetchSize = template.getFetchSize();
+        template.setFetchSize(2);
+
+        //when
+        List<String> names;
+        try (Stream<Customer> customers = tarantoolOperations.streamAll(Customer.class)) {
+            names = customers.map(Customer::getName).collect(Collectors.toList());
+        } finally {
+            template.setFetchSize(fetchSize);
+        }
+
+        //then
+        assertEquals(Arrays.asList("Vasya", "Petya", "Tanya"), names);
+    }
+
+    @Test
+    void test_findAll_withSort_shouldReturnEntitiesInIndexOrder() {
+        List<Customer> customers = tarantoolOperations.findAll(Sort.by(Sort.Direction.DESC, "id"), Customer.class);
+
+        assertEquals(Arrays.asList("Tanya", "Petya", "Vasya"),
+                customers.stream().map(Customer::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void test_findAll_withSortWithoutIndex_shouldSortOnClient() {
+        //when
+        List<Customer> customers = tarantoolOperations.findAll(Sort.by("name"), Customer.class);
+        Slice<Customer> slice = tarantoolOperations.find(Conditions.greaterThan("id", 1L),
+                TarantoolPageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "name")), Customer.class);
+
+        //then
+        assertEquals(Arrays.asList("Petya", "Tanya", "Vasya"),
+                customers.stream().map(Customer::getName).collect(Collectors.toList()));
+        assertTrue(slice.hasNext());
+        assertEquals("Tanya", slice.getContent().get(0).getName());
+    }
+
+    @Test
+    void test_findAll_withSortWithoutIndex_shouldThrowExceptionIfTooManyRecords() {
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        int maxClientSortSize = template.getMaxClientSortSize();
+        template.setMaxClientSortSize(2);
+        try {
+            assertThrows(InvalidDataAccessApiUsageException.class,
+                    () -> tarantoolOperations.findAll(Sort.by("name"), Customer.class));
+        } finally {
+            template.setMaxClientSortSize(maxClientSortSize);
+        }
+    }
+
+    @Test
+    void test_findAll_withPageable_shouldSelectNextPageAfterPreviousSlice() {
+        //when
+        Slice<Customer> first = tarantoolOperations.findAll(TarantoolPageRequest.of(0, 2), Customer.class);
+        Slice<Customer> second = tarantoolOperations.findAll(first.nextPageable(), Customer.class);
+
+        //then
+        assertTrue(first.hasNext());
+        assertEquals(Arrays.asList("Vasya", "Petya"),
+                first.getContent().stream().map(Customer::getName).collect(Collectors.toList()));
+        assertFalse(second.hasNext());
+        assertEquals(1, second.getNumber());
+        assertEquals("Tanya", second.getContent().get(0).getName());
+    }
+
+    @Test
+    void test_count_shouldCountRecordsOnServer() {
+        assertEquals(3, tarantoolOperations.count(Conditions.any(), Customer.class));
+        assertEquals(2, tarantoolOperations.count(Conditions.any().withLimit(2), Customer.class));
+        assertEquals(1, tarantoolOperations.count(Conditions.equals("name", "Petya"), Customer.class));
+    }
+
+    @Test
+    void test_existsById_shouldCheckRecordByPrimaryKey() {
+        assertTrue(tarantoolOperations.existsById(1L, Customer.class));
+        assertFalse(tarantoolOperations.existsById(100L, Customer.class));
+    }
+
+    @Test
+    void test_exists_shouldSelectOneRecordMatchingQuery() {
+        assertTrue(tarantoolOperations.exists(Conditions.equals("name", "Vasya"), Customer.class));
+        assertTrue(tarantoolOperations.exists(Conditions.any(), Customer.class));
+        assertFalse(tarantoolOperations.exists(Conditions.equals("name", "Nobody"), Customer.class));
+    }
+
+    @Test
+    void test_existsById_shouldSkipAbsentIdsOfFilteredEntity() {
+        //given
+        assertFalse(tarantoolOperations.existsById(13L, FilteredCustomer.class));
+        tarantoolOperations.save(FilteredCustomer.builder()
+                .id(13L)
+                .name("Kolya")
+                .tags(Collections.singletonList("filtered"))
+                .addresses(generateAddresses())
+                .build(), FilteredCustomer.class);
+
+        //then
+        assertTrue(tarantoolOperations.existsById(1L, FilteredCustomer.class));
+        assertTrue(tarantoolOperations.existsById(13L, FilteredCustomer.class));
+        assertEquals("Kolya", tarantoolOperations.findById(13L, FilteredCustomer.class).getName());
+        assertFalse(tarantoolOperations.existsById(100L, FilteredCustomer.class));
+        assertNull(tarantoolOperations.findById(100L, FilteredCustomer.class));
+        assertEquals(1, tarantoolOperations.findAllById(Arrays.asList(13L, 100L), FilteredCustomer.class).size());
+
+        tarantoolOperations.removeById(13L, FilteredCustomer.class);
+        assertFalse(tarantoolOperations.existsById(13L, FilteredCustomer.class));
+    }
+
+    @Test
+    void test_invalidateKeyFilter_shouldLookUpRecordsWrittenBypassingFilter() {
+        //given
+        TarantoolTemplate template = (TarantoolTemplate) tarantoolOperations;
+        assertFalse(template.existsById(14L, FilteredCustomer.class));
+        tarantoolClient.eval("return require('crud').insert_object('customers', " +
+                "{id = 14, name = 'Kolya', tags = {'unfiltered'}, addresses = {}})").join();
+        assertFalse(template.existsById(14L, FilteredCustomer.class));
+
+        //when
+        template.invalidateKeyFilter(FilteredCustomer.class);
+
+        //then
+        assertTrue(template.existsById(14L, FilteredCustomer.class));
+
+        template.removeById(14L, Customer.class);
+    }
+
+    @Test
+    void test_existsById_shouldFindRecordWrittenThroughOtherEntityOfSpace() {
+        //given
+        assertFalse(tarantoolOperations.existsById(15L, FilteredCustomer.class));
+
+        //when
+        tarantoolOperations.save(Customer.builder()
+                .id(15L)
+                .name("Kolya")
+                .tags(Collections.singletonList("unfiltered"))
+                .addresses(generateAddresses())
+                .build(), Customer.class);
+
+        //then
+        assertTrue(tarantoolOperations.existsById(15L, FilteredCustomer.class));
+
+        tarantoolOperations.removeById(15L, Customer.class);
+    }
 }
@@ -0,0 +1,225 @@
+package org.springframework.data.tarantool.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the write-behind buffer with the writers completing in the calling thread or completed by the test. Does not
+ * need Tarantool.
+ */
+class WriteBehindBufferTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int THREADS = 2;
+    private static final int ROUNDS = 10_000;
+
+    @Test
+    void test_put_shouldNotHangWhenWriterFailsSynchronouslyOnFullBuffer() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            //given
+            WriteBehindBuffer buffer = new WriteBehindBuffer("customers", 1, 1, 60_000, batch -> {
+                throw new IllegalStateException("Connection is closed");
+            });
+
+            //when
+            putConcurrently(buffer);
+
+            //then
+            TarantoolWriteBehindStatistics statistics = buffer.getStatistics();
+            assertEquals(THREADS, statistics.getBufferedCount());
+            assertEquals(THREADS, statistics.getFailedCount());
+            assertEquals(0, statistics.getSize());
+        }
+    }
+
+    @Test
+    void test_put_shouldNotHangWhenWriterCompletesSynchronouslyOnFullBuffer() {
+        //given
+        List<Object> written = new ArrayList<>();
+        WriteBehindBuffer buffer = newBuffer(batch -> {
+            written.addAll(batch);
+            return CompletableFuture.completedFuture(batch);
+        });
+        buffer.put(1L, "first");
+        buffer.put(2L, "second");
+
+        //when
+        assertTimeoutPreemptively(TIMEOUT, () -> buffer.put(3L, "third").join());
+
+        //then
+        assertEquals(2, written.size());
+        assertEquals(2, buffer.getStatistics().getFlushedCount());
+        assertEquals(1, buffer.getStatistics().getSize());
+    }
+
+    @Test
+    void test_put_shouldQueueEntitiesWithoutWaitingWhileBufferIsFull() {
+        //given
+        List<CompletableFuture<Object>> writes = new ArrayList<>();
+        WriteBehindBuffer buffer = newBuffer(batch -> {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            writes.add(result);
+            return result;
+        });
+        buffer.put(1L, "first");
+        buffer.put(2L, "second");
+
+        //when
+        CompletableFuture<Void> third = buffer.put(3L, "third");
+        CompletableFuture<Void> fourth = buffer.put(1L, "fourth");
+
+        //then
+        assertFalse(third.isDone());
+        assertFalse(fourth.isDone());
+        assertEquals(1, writes.size());
+        assertEquals(2, buffer.getStatistics().getSize());
+
+        //when
+        writes.get(0).complete(null);
+
+        //then
+        assertTrue(third.isDone());
+        assertTrue(fourth.isDone());
+        assertEquals(2, buffer.getStatistics().getSize());
+        assertEquals(4, buffer.getStatistics().getBufferedCount());
+    }
+
+    @Test
+    void test_flush_shouldReportFailedBatchesOnce() {
+        //given
+        WriteBehindBuffer buffer = newBuffer(batch -> {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException("Connection is closed"));
+            return result;
+        });
+        buffer.put(1L, "first");
+        buffer.put(2L, "second");
+        buffer.put(3L, "third");
+
+        //when
+        CompletionException failure = assertThrows(CompletionException.class, () -> buffer.flush().join());
+
+        //then
+        assertTrue(failure.getCause() instanceof DataAccessResourceFailureException);
+        assertTrue(failure.getCause().getMessage().startsWith("Failed to write 2 buffered entities"));
+        assertEquals(1, failure.getCause().getSuppressed().length);
+        assertEquals(3, buffer.getStatistics().getFailedCount());
+        assertNull(buffer.flush().join());
+    }
+
+    @Test
+    void test_flush_shouldBoundSuppressedFailures() {
+        //given
+        WriteBehindBuffer buffer = new WriteBehindBuffer("customers", 1, 1, 60_000, batch -> {
+            throw new IllegalStateException("Connection is closed");
+        });
+        for (long key = 0; key < 100; key++) {
+            buffer.put(key, "entity");
+        }
+
+        //when
+        CompletionException failure = assertThrows(CompletionException.class, () -> buffer.flush().join());
+
+        //then
+        assertEquals(10, failure.getCause().getSuppressed().length);
+        assertEquals(100, buffer.getStatistics().getFailedCount());
+    }
+
+    @Test
+    void test_flush_shouldReportBatchFailedBeforeSuccessfulOne() {
+        //given
+        List<List<Object>> batches = new ArrayList<>();
+        WriteBehindBuffer buffer = newBuffer(batch -> {
+            batches.add(batch);
+            if (batches.size() == 1) {
+                throw new IllegalStateException("Connection is closed");
+            }
+            return CompletableFuture.completedFuture(batch);
+        });
+        buffer.put(1L, "first");
+        buffer.put(2L, "second");
+        buffer.put(3L, "third");
+        buffer.put(4L, "fourth");
+
+        //when
+        CompletionException failure = assertThrows(CompletionException.class, () -> buffer.flush().join());
+
+        //then
+        assertTrue(failure.getCause() instanceof DataAccessResourceFailureException);
+        assertEquals(2, batches.size());
+        assertEquals(2, buffer.getStatistics().getFlushedCount());
+    }
+
+    @Test
+    void test_startFlush_shouldWriteBufferedEntitiesOnlyIfKeyIsBuffered() {
+        //given
+        List<Object> written = new ArrayList<>();
+        WriteBehindBuffer buffer = newBuffer(batch -> {
+            written.addAll(batch);
+            return CompletableFuture.completedFuture(batch);
+        });
+        buffer.put(1L, "first");
+
+        //when
+        buffer.startFlush(Collections.singletonList(2L)).join();
+
+        //then
+        assertTrue(written.isEmpty());
+        assertEquals(1, buffer.getStatistics().getSize());
+
+        //when
+        buffer.startFlush(Arrays.asList(2L, 1L)).join();
+
+        //then
+        assertEquals(Collections.singletonList("first"), written);
+        assertEquals(0, buffer.getStatistics().getSize());
+    }
+
+    /**
+     * Put one key from each thread at once, so a thread may find the buffer filled by another one before its flush
+     */
+    private static void putConcurrently(WriteBehindBuffer buffer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> puts = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            long key = thread;
+            CompletableFuture<Void> put = new CompletableFuture<>();
+            Thread putter = new Thread(() -> {
+                try {
+                    start.await();
+                    buffer.put(key, "entity").join();
+                    put.complete(null);
+                } catch (Throwable e) {
+                    put.completeExceptionally(e);
+                }
+            });
+            putter.setDaemon(true);
+            putter.start();
+            puts.add(put);
+        }
+        start.countDown();
+        CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static WriteBehindBuffer newBuffer(Function<List<Object>, CompletableFuture<?>> writer) {
+        return new WriteBehindBuffer("customers", 2, 100, 60_000, writer);
+    }
+}
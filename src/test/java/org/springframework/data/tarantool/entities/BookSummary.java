@@ -0,0 +1,13 @@
+package org.springframework.data.tarantool.entities;
+
+/**
+ * Closed interface projection of {@link Book}
+ */
+public interface BookSummary {
+
+    String getName();
+
+    Integer getYear();
+
+    Address getIssuerAddress();
+}
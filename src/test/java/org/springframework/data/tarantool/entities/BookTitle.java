@@ -0,0 +1,14 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.Data;
+
+/**
+ * DTO projection of {@link Book}
+ */
+@Data
+public class BookTitle {
+
+    private String name;
+
+    private String author;
+}
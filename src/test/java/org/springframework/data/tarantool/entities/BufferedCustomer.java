@@ -0,0 +1,14 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.tarantool.core.mapping.TarantoolWriteBehind;
+
+/**
+ * Customer saved through the write-behind buffer of two entities, flushed explicitly
+ */
+@SuperBuilder
+@NoArgsConstructor
+@TarantoolWriteBehind(maxSize = 2, flushInterval = 60_000)
+public class BufferedCustomer extends CustomerRecord {
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.tarantool.core.mapping.TarantoolCache;
+
+/**
+ * Customer with the near cache of the records found by id
+ */
+@SuperBuilder
+@NoArgsConstructor
+@TarantoolCache(maxSize = 10)
+public class CachedCustomer extends CustomerRecord {
+}
@@ -0,0 +1,30 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.tarantool.core.mapping.Tuple;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Required fields of the customers space, shared by the customer entities which differ only by the template policies
+ * enabled for them
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@Tuple("customers")
+public abstract class CustomerRecord {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private List<String> tags;
+
+    private Map<String, Address> addresses;
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.tarantool.core.mapping.TarantoolBloomFilter;
+
+/**
+ * Customer with the negative lookup filter of the absent ids
+ */
+@SuperBuilder
+@NoArgsConstructor
+@TarantoolBloomFilter(expectedRecords = 1000)
+public class FilteredCustomer extends CustomerRecord {
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.tarantool.entities;
+
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.springframework.data.tarantool.core.mapping.TarantoolChangeTracking;
+
+/**
+ * Customer saved with the changed fields only
+ */
+@SuperBuilder
+@NoArgsConstructor
+@TarantoolChangeTracking
+public class TrackedCustomer extends CustomerRecord {
+}
@@ -2,8 +2,10 @@ package org.springframework.data.tarantool.repository;
 
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.tarantool.entities.Book;
+import org.springframework.data.tarantool.entities.BookSummary;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Alexey Kuzin
@@ -13,6 +15,16 @@ public interface BookRepository extends CrudRepository<Book, Integer> {
     @Query(function = "find_by_complex_query", output = TarantoolSerializationType.TUPLE)
     List<Book> findByYearGreaterThenProxy(Integer year);
 
+    @Query(function = "find_by_complex_query", output = TarantoolSerializationType.TUPLE)
+    Stream<Book> streamByYearGreaterThenProxy(Integer year);
+
+    @Query(function = "find_by_complex_query", output = TarantoolSerializationType.TUPLE)
+    List<BookSummary> findSummariesByYearGreaterThen(Integer year);
+
+    @CachedQuery(ttl = 60_000)
+    @Query(function = "find_by_complex_query", output = TarantoolSerializationType.TUPLE)
+    List<Book> findByYearGreaterThenCached(Integer year);
+
     @Query(function = "find_by_entity", output = TarantoolSerializationType.TUPLE)
     List<Book> findByBookWithTupleOutput(Book book);
 
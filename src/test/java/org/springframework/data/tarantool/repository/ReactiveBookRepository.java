@@ -0,0 +1,16 @@
+package org.springframework.data.tarantool.repository;
+
+import org.springframework.data.tarantool.entities.Book;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveBookRepository extends ReactiveTarantoolRepository<Book, Integer> {
+
+    @Query(function = "book_find_list_by_name", output = TarantoolSerializationType.TUPLE)
+    Flux<Book> getListByName(List<String> names);
+
+    @Query(function = "find_by_entity", output = TarantoolSerializationType.AUTO)
+    Mono<Book> findByBookWithAutoOutputAndNonListReturnType(Book book);
+}
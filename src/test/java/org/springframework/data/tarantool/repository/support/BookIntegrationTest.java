@@ -10,6 +10,7 @@ import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.tarantool.BaseIntegrationTest;
 import org.springframework.data.tarantool.entities.Book;
+import org.springframework.data.tarantool.entities.BookSummary;
 import org.springframework.data.tarantool.entities.TestSpace;
 import org.springframework.data.tarantool.repository.BookAsTestSpaceRepository;
 import org.springframework.data.tarantool.repository.BookRepository;
@@ -17,6 +18,7 @@ import org.springframework.data.tarantool.repository.BookRepository;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -95,6 +97,48 @@ class BookIntegrationTest extends BaseIntegrationTest {
         assertEquals(0, books.size());
     }
 
+    @Test
+    public void test_deleteAllById_shouldRemoveOnlySpecifiedEntities() {
+        bookRepository.deleteAllById(Arrays.asList(1, 3, 123));
+
+        List<Book> books = (List<Book>) bookRepository.findAll();
+        assertEquals(1, books.size());
+        assertEquals("The Great Gatsby", books.get(0).getName());
+    }
+
+    @Test
+    public void test_deleteAll_withEntities_shouldRemoveThem() {
+        bookRepository.deleteAll(bookRepository.findAllById(Arrays.asList(1, 2)));
+
+        List<Book> books = (List<Book>) bookRepository.findAll();
+        assertEquals(1, books.size());
+        assertEquals("War and Peace", books.get(0).getName());
+    }
+
+    @Test
+    public void test_streamQuery_shouldReturnMatchingEntities() {
+        try (Stream<Book> books = bookRepository.streamByYearGreaterThenProxy(1800)) {
+            assertThat(books.map(Book::getName)).containsExactlyInAnyOrder("The Great Gatsby", "War and Peace");
+        }
+    }
+
+    @Test
+    public void test_cachedQuery_shouldReturnCachedResultForSameParameters() {
+        List<Book> books = bookRepository.findByYearGreaterThenCached(1700);
+        assertEquals(2, books.size());
+
+        bookRepository.save(Book.builder()
+                .id(7).name("Ulysses").uniqueKey("udf68").author("James Joyce").year(1922).build());
+
+        assertEquals(2, bookRepository.findByYearGreaterThenCached(1700).size());
+        assertEquals(3, bookRepository.findByYearGreaterThenCached(1701).size());
+    }
+
+    @Test
+    public void test_count_shouldReturnNumberOfEntities() {
+        assertEquals(3, bookRepository.count());
+    }
+
     @Test
     public void testFindById() {
         Optional<Book> book = bookRepository.findById(3);
@@ -116,6 +160,13 @@ class BookIntegrationTest extends BaseIntegrationTest {
         assertThat(books.size()).isPositive();
     }
 
+    @Test
+    public void testFindProjectionsByYear() {
+        List<BookSummary> summaries = bookRepository.findSummariesByYearGreaterThen(1900);
+        assertThat(summaries).extracting(BookSummary::getName).containsExactly("The Great Gatsby");
+        assertThat(summaries.get(0).getYear()).isEqualTo(1925);
+    }
+
     @Test
     public void testFindByEntityWithTupleOutput() {
         Optional<Book> book = bookRepository.findById(3);
@@ -67,6 +67,23 @@ class CompositePkIntegrationTest extends BaseIntegrationTest {
         assertThat(newTranslation).isEqualTo(translation);
     }
 
+    @Test
+    public void test_findAllById_shouldReturnEntitiesForExistingKeys() {
+        BookTranslation first = BookTranslation.builder()
+                .bookId(7).language("Russian").edition(1).translator("Ivan Ivanov").comments("First").build();
+        BookTranslation second = BookTranslation.builder()
+                .bookId(7).language("English").edition(2).translator("John Smith").comments("Second").build();
+        bookTranslationRepository.saveAll(Arrays.asList(first, second));
+
+        BookTranslationId missingId = BookTranslationId.builder().bookId(7).language("Alien").edition(3).build();
+        BookTranslationId secondId = BookTranslationId.builder().bookId(7).language("English").edition(2).build();
+        BookTranslationId firstId = BookTranslationId.builder().bookId(7).language("Russian").edition(1).build();
+        Iterable<BookTranslation> found = bookTranslationRepository.findAllById(
+                Arrays.asList(secondId, missingId, firstId));
+
+        assertThat(found).containsExactly(second, first);
+    }
+
     @Test
     public void testExists() {
         BookTranslationId id = BookTranslationId.builder()
@@ -0,0 +1,90 @@
+package org.springframework.data.tarantool.repository.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.tarantool.BaseIntegrationTest;
+import org.springframework.data.tarantool.core.ReactiveTarantoolTemplate;
+import org.springframework.data.tarantool.entities.Book;
+import org.springframework.data.tarantool.repository.ReactiveBookRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+class ReactiveBookIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ReactiveBookRepository bookRepository;
+
+    @Autowired
+    private ReactiveTarantoolTemplate reactiveTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        Book donQuixote = Book.builder()
+                .id(1).uniqueKey("a1").name("Don Quixote").author("Miguel de Cervantes").year(1605).build();
+        Book theGreatGatsby = Book.builder()
+                .id(2).uniqueKey("a2").name("The Great Gatsby").author("F. Scott Fitzgerald").year(1925).build();
+        Book warAndPeace = Book.builder()
+                .id(3).uniqueKey("a3").name("War and Peace").author("Leo Tolstoy").year(1869).build();
+        bookRepository.saveAll(Arrays.asList(donQuixote, theGreatGatsby, warAndPeace)).blockLast();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookRepository.deleteAll().block();
+    }
+
+    @Test
+    public void test_findById_shouldReturnEmptyForNonExistingKey() {
+        assertThat(bookRepository.findById(123).blockOptional()).isNotPresent();
+        assertThat(bookRepository.findById(1).block()).extracting(Book::getName).isEqualTo("Don Quixote");
+    }
+
+    @Test
+    public void test_findAll_shouldFetchByPages() {
+        int fetchSize = reactiveTemplate.getFetchSize();
+        reactiveTemplate.setFetchSize(2);
+        try {
+            List<Book> books = IntStream.rangeClosed(4, 10)
+                    .mapToObj(i -> Book.builder()
+                            .id(i).uniqueKey("b" + i).name("Book " + i).author("Author").year(2000 + i).build())
+                    .collect(Collectors.toList());
+            bookRepository.saveAll(books).blockLast();
+
+            List<Integer> ids = bookRepository.findAll().limitRate(1).map(Book::getId).collectList().block();
+            assertThat(ids).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+            assertThat(bookRepository.findAll().take(3).collectList().block()).hasSize(3);
+        } finally {
+            reactiveTemplate.setFetchSize(fetchSize);
+        }
+    }
+
+    @Test
+    public void test_queryMethods_shouldReturnPublishers() {
+        List<Book> books = bookRepository.getListByName(Collections.singletonList("War and Peace"))
+                .collectList().block();
+        assertThat(books).extracting(Book::getId).containsExactly(3);
+
+        Book book = bookRepository.findByBookWithAutoOutputAndNonListReturnType(
+                Book.builder().id(1).name("Don Quixote").build()).block();
+        assertThat(book).extracting(Book::getId).isEqualTo(1);
+    }
+
+    @Test
+    public void test_deleteById_shouldRemoveEntity() {
+        Flux.just(1, 2).concatMap(bookRepository::deleteById).blockLast();
+
+        assertThat(bookRepository.findAll().map(Book::getId).collectList().block()).containsExactly(3);
+    }
+}
@@ -150,6 +150,11 @@ function returning_error()
     return nil, AssertionError:new('some error')
 end
 
+function sleep_for(seconds)
+    require('fiber').sleep(seconds)
+    return true
+end
+
 function get_users_with_age_gt(age)
     return crud.select("sample_user", { { ">", "age", age } })
 end